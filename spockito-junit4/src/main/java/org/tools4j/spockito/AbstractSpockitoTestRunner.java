@@ -31,24 +31,137 @@ import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.Statement;
+import org.junit.runners.model.TestClass;
+import org.tools4j.spockito.table.RowListeners;
+import org.tools4j.spockito.table.TableRow;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Common base for spockito test runners.
  */
 abstract public class AbstractSpockitoTestRunner extends BlockJUnit4ClassRunner {
 
+    private final Map<FrameworkMethod, RowTimer> rowTimers = new ConcurrentHashMap<>();
+
     public AbstractSpockitoTestRunner(final Class<?> clazz) throws InitializationError {
         super(clazz);
     }
 
+    public AbstractSpockitoTestRunner(final TestClass testClass) throws InitializationError {
+        super(testClass);
+    }
+
     @Override
     protected Statement classBlock(RunNotifier notifier) {
         return childrenInvoker(notifier);
     }
 
+    @Override
+    protected void runChild(final FrameworkMethod method, final RunNotifier notifier) {
+        super.runChild(method, ConcurrentRowScheduler.notifier(notifier));
+    }
+
+    /**
+     * Returns the method block statement which, if {@linkplain RowListeners#isEnabled() row listeners} are registered,
+     * also collects timings and publishes a {@link org.tools4j.spockito.table.RowEvent RowEvent} when the test has
+     * been run with the values of a table row.
+     */
+    @Override
+    protected Statement methodBlock(final FrameworkMethod method) {
+        final TableRow tableRow = RowListeners.isEnabled() ? tableRowOrNull(method) : null;
+        if (tableRow == null) {
+            return super.methodBlock(method);
+        }
+        final String tableId = method.getAnnotation(Spockito.Unroll.class) == null ? getTestClass().getName() :
+                getTestClass().getName() + "#" + method.getName();
+        final RowTimer timer = new RowTimer(tableId, testName(method), tableRow);
+        final Statement statement;
+        rowTimers.put(method, timer);
+        try {
+            statement = super.methodBlock(method);
+        } catch (final RuntimeException | Error e) {
+            timer.finish(e);
+            throw e;
+        } finally {
+            rowTimers.remove(method);
+        }
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                Throwable failure = null;
+                try {
+                    statement.evaluate();
+                } catch (final Throwable t) {
+                    failure = t;
+                    throw t;
+                } finally {
+                    timer.finish(failure);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the timer collecting timings for the given test method while its method block is created, or null if no
+     * timings are collected.  Statements created for the method block capture the timer as they may be evaluated by
+     * another thread.
+     *
+     * @param method the test method
+     * @return the row timer, or null if no timings are collected
+     */
+    RowTimer rowTimerOrNull(final FrameworkMethod method) {
+        return rowTimers.get(method);
+    }
+
+    @Override
+    protected Statement methodInvoker(final FrameworkMethod method, final Object test) {
+        final RowTimer timer = rowTimerOrNull(method);
+        if (timer == null || !(method instanceof UnrolledTestMethod)) {
+            return super.methodInvoker(method, test);
+        }
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                ((UnrolledTestMethod)method).invokeExplosively(test, timer);
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected Statement withBefores(final FrameworkMethod method, final Object target, final Statement statement) {
+        final RowTimer timer = rowTimerOrNull(method);
+        if (timer == null) {
+            return super.withBefores(method, target, statement);
+        }
+        return super.withBefores(method, target, new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                timer.testStarted();
+                try {
+                    statement.evaluate();
+                } finally {
+                    timer.testFinished();
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the table row whose values are used when running the given test method.
+     *
+     * @param method the test method
+     * @return the table row, or null if the test method is not run with table row values
+     */
+    protected TableRow tableRowOrNull(final FrameworkMethod method) {
+        return method instanceof UnrolledTestMethod ? ((UnrolledTestMethod)method).getTableRow() : null;
+    }
+
     @Override
     protected Annotation[] getRunnerAnnotations() {
         return new Annotation[0];
@@ -66,14 +179,58 @@ abstract public class AbstractSpockitoTestRunner extends BlockJUnit4ClassRunner
 
     @Override
     protected Description describeChild(final FrameworkMethod method) {
-        final Spockito.Name name = Spockito.nameAnnotationOrNull(method.getMethod());
-        if (name != null && name.shortFormat()) {
+        if (isShortFormat(method)) {
             return Description.createSuiteDescription(testName(method), method.getAnnotations());
         } else {
             return super.describeChild(method);
         }
     }
 
+    /**
+     * Returns a description equal to the one returned by {@link #describeChild(FrameworkMethod)} without the need to
+     * create a runner instance.
+     *
+     * @param testClass the test class
+     * @param method    the test method
+     * @param testName  the test name as returned by {@link #testName(FrameworkMethod)}
+     * @return the test description
+     */
+    static Description describeChild(final TestClass testClass, final FrameworkMethod method, final String testName) {
+        if (isShortFormat(method)) {
+            return Description.createSuiteDescription(testName, method.getAnnotations());
+        }
+        return Description.createTestDescription(testClass.getJavaClass(), testName, method.getAnnotations());
+    }
+
+    private static boolean isShortFormat(final FrameworkMethod method) {
+        final Spockito.Name name = Spockito.nameAnnotationOrNull(method.getMethod());
+        return name != null && name.shortFormat();
+    }
+
+    /**
+     * Assigns the given values to the fields of the test instance.
+     *
+     * @param testInstance  the test instance
+     * @param fields        the fields to assign
+     * @param values        the values to assign, one per field
+     * @return the test instance
+     * @throws Exception if assigning a field value fails
+     */
+    protected Object injectFields(final Object testInstance, final Field[] fields, final Object[] values) throws Exception {
+        for (int i = 0; i < fields.length; i++) {
+            final Field field = fields[i];
+            try {
+                field.setAccessible(true);
+                field.set(testInstance, values[i]);
+            } catch (final Exception e) {
+                throw new Exception(getTestClass().getName()
+                        + ": Trying to set " + field.getName()
+                        + " with the value " + values[i], e);
+            }
+        }
+        return testInstance;
+    }
+
     @Override
     protected void collectInitializationErrors(final List<Throwable> errors) {
         //don't do here, do validation in our own constructor
@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito;
+
+import org.tools4j.spockito.table.Table;
+import org.tools4j.spockito.table.TableRow;
+import org.tools4j.spockito.table.TableRowConverter;
+import org.tools4j.spockito.table.ValueConverter;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Immutable plan binding table columns to the parameters of a constructor or test method, or to test fields.  The
+ * plan holds one row converter per parameter or field;  it is created once per member and table layout, and
+ * converting a row is then reduced to reading and converting cell values.
+ */
+final class BindingPlan {
+
+    private static final ClassValue<ConcurrentMap<List<Object>, BindingPlan>> PLANS =
+            new ClassValue<ConcurrentMap<List<Object>, BindingPlan>>() {
+                @Override
+                protected ConcurrentMap<List<Object>, BindingPlan> computeValue(final Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+    private static final BindingPlan EMPTY = new BindingPlan(new TableRowConverter[0]);
+
+    private final TableRowConverter[] converters;
+
+    private BindingPlan(final TableRowConverter[] converters) {
+        this.converters = converters;
+    }
+
+    /**
+     * Returns the binding plan for the parameters of the given constructor or method.
+     *
+     * @param executable        the constructor or method
+     * @param table             the table, only the column layout is relevant for the plan
+     * @param valueConverter    the value converter
+     * @return the plan for the executable, table columns and value converter type
+     */
+    static BindingPlan forExecutable(final Executable executable, final Table table, final ValueConverter valueConverter) {
+        if (executable.getParameterCount() == 0) {
+            return EMPTY;
+        }
+        return PLANS.get(executable.getDeclaringClass()).computeIfAbsent(
+                key(executable, table, valueConverter), k -> {
+                    final Parameter[] parameters = executable.getParameters();
+                    final TableRowConverter[] converters = new TableRowConverter[parameters.length];
+                    for (int i = 0; i < parameters.length; i++) {
+                        converters[i] = TableRowConverters.create(null, parameters[i], i, valueConverter);
+                    }
+                    return new BindingPlan(converters);
+                });
+    }
+
+    /**
+     * Returns the binding plan for the given fields.
+     *
+     * @param fields            the fields to bind
+     * @param table             the table, only the column layout is relevant for the plan
+     * @param valueConverter    the value converter
+     * @return the plan for the fields, table columns and value converter type
+     */
+    static BindingPlan forFields(final Field[] fields, final Table table, final ValueConverter valueConverter) {
+        if (fields.length == 0) {
+            return EMPTY;
+        }
+        return PLANS.get(fields[0].getDeclaringClass()).computeIfAbsent(
+                key(Arrays.asList(fields), table, valueConverter), k -> {
+                    final TableRowConverter[] converters = new TableRowConverter[fields.length];
+                    for (int i = 0; i < fields.length; i++) {
+                        converters[i] = TableRowConverters.create(fields[i], valueConverter);
+                    }
+                    return new BindingPlan(converters);
+                });
+    }
+
+    private static List<Object> key(final Object members, final Table table, final ValueConverter valueConverter) {
+        //value converters are instantiated by type, see Spockito.getValueConverter(..)
+        return Arrays.asList(members, table.getColumnNames(), valueConverter.getClass());
+    }
+
+    /**
+     * Converts the given row into values, one per parameter or field.
+     *
+     * @param tableRow the row to convert
+     * @return the converted values
+     */
+    Object[] convert(final TableRow tableRow) {
+        final Object[] values = new Object[converters.length];
+        for (int i = 0; i < converters.length; i++) {
+            values[i] = converters[i].convert(tableRow);
+        }
+        return values;
+    }
+}
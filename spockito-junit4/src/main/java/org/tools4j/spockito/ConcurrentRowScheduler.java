@@ -0,0 +1,266 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runner.notification.StoppedByUserException;
+import org.junit.runners.model.RunnerScheduler;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Scheduler running the children of a spockito runner concurrently on a bounded thread pool.  Virtual threads are used
+ * if available, that is, when running on Java 21 or newer.
+ * <p>
+ * Notifier events of every child are queued while the child is running and forwarded to the original notifier in the
+ * order in which the children were scheduled.  Events of the first child that has not completed yet are forwarded as
+ * they occur, and queued events of subsequent children as soon as all previous children have completed.  Reported
+ * results are hence deterministic, and listeners are notified from the thread running the parent runner only.
+ * <p>
+ * A {@linkplain RunNotifier#pleaseStop() stop request} is forwarded to the original notifier and stops all children
+ * from starting further tests.
+ */
+final class ConcurrentRowScheduler implements RunnerScheduler {
+
+    private static final ThreadLocal<ChildEvents> CURRENT = new ThreadLocal<>();
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    private final int threads;
+    private final List<ChildEvents> children = new ArrayList<>();
+    private ExecutorService executor;
+
+    ConcurrentRowScheduler(final int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Threads must be positive: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Returns the notifier to use when running a child:  a recording notifier if invoked from a thread running a child
+     * scheduled by a concurrent scheduler, and the given notifier otherwise.
+     *
+     * @param notifier the notifier passed to the runner
+     * @return the notifier to pass on to the child
+     */
+    static RunNotifier notifier(final RunNotifier notifier) {
+        final ChildEvents childEvents = CURRENT.get();
+        if (childEvents == null || notifier instanceof RecordingNotifier) {
+            return notifier;
+        }
+        childEvents.recorder.target = notifier;
+        return childEvents.recorder;
+    }
+
+    @Override
+    public void schedule(final Runnable childStatement) {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(threads, threadFactory());
+        }
+        final ChildEvents childEvents = new ChildEvents();
+        childEvents.future = executor.submit(() -> {
+            CURRENT.set(childEvents);
+            try {
+                childStatement.run();
+            } finally {
+                CURRENT.remove();
+                childEvents.recorder.complete();
+            }
+        });
+        children.add(childEvents);
+    }
+
+    @Override
+    public void finished() {
+        try {
+            for (final ChildEvents childEvents : children) {
+                childEvents.forward();
+                childEvents.await();
+            }
+        } catch (final RuntimeException | Error e) {
+            for (final ChildEvents childEvents : children) {
+                childEvents.recorder.stop();
+            }
+            throw e;
+        } finally {
+            children.clear();
+            if (executor != null) {
+                executor.shutdown();
+                executor = null;
+            }
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        final ThreadFactory virtualThreadFactory = virtualThreadFactoryOrNull();
+        if (virtualThreadFactory != null) {
+            return virtualThreadFactory;
+        }
+        final String prefix = "spockito-" + POOL_COUNT.incrementAndGet() + "-";
+        final AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static ThreadFactory virtualThreadFactoryOrNull() {
+        try {
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory)factory.invoke(builder);
+        } catch (final Exception e) {
+            //not available before Java 21
+            return null;
+        }
+    }
+
+    /**
+     * Events recorded for a single child.
+     */
+    private static final class ChildEvents {
+        final RecordingNotifier recorder = new RecordingNotifier();
+        Future<?> future;
+
+        void await() {
+            try {
+                future.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for child runner", e);
+            } catch (final ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException)cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error)cause;
+                }
+                throw new IllegalStateException("Child runner failed", cause);
+            }
+        }
+
+        void forward() {
+            recorder.forward();
+        }
+    }
+
+    /**
+     * Notifier queueing events for forwarding;  the target notifier is the original notifier of the child.
+     */
+    private static final class RecordingNotifier extends RunNotifier {
+        private static final Consumer<RunNotifier> COMPLETED = notifier -> {};
+        private final BlockingQueue<Consumer<RunNotifier>> events = new LinkedBlockingQueue<>();
+        private volatile RunNotifier target;
+        private volatile boolean stopped;
+
+        private void record(final Consumer<RunNotifier> event) {
+            events.add(event);
+        }
+
+        void complete() {
+            events.add(COMPLETED);
+        }
+
+        void stop() {
+            stopped = true;
+        }
+
+        /**
+         * Forwards events to the target notifier as they are recorded, until the child has completed.
+         */
+        void forward() {
+            try {
+                for (Consumer<RunNotifier> event = events.take(); event != COMPLETED; event = events.take()) {
+                    //target is set before the child fires its first event
+                    event.accept(target);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for child runner events", e);
+            }
+        }
+
+        @Override
+        public void pleaseStop() {
+            stopped = true;
+            final RunNotifier notifier = target;
+            if (notifier != null) {
+                notifier.pleaseStop();
+            }
+        }
+
+        @Override
+        public void fireTestSuiteStarted(final Description description) {
+            record(notifier -> notifier.fireTestSuiteStarted(description));
+        }
+
+        @Override
+        public void fireTestSuiteFinished(final Description description) {
+            record(notifier -> notifier.fireTestSuiteFinished(description));
+        }
+
+        @Override
+        public void fireTestStarted(final Description description) throws StoppedByUserException {
+            if (stopped) {
+                throw new StoppedByUserException();
+            }
+            record(notifier -> notifier.fireTestStarted(description));
+        }
+
+        @Override
+        public void fireTestFailure(final Failure failure) {
+            record(notifier -> notifier.fireTestFailure(failure));
+        }
+
+        @Override
+        public void fireTestAssumptionFailed(final Failure failure) {
+            record(notifier -> notifier.fireTestAssumptionFailed(failure));
+        }
+
+        @Override
+        public void fireTestIgnored(final Description description) {
+            record(notifier -> notifier.fireTestIgnored(description));
+        }
+
+        @Override
+        public void fireTestFinished(final Description description) {
+            record(notifier -> notifier.fireTestFinished(description));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito;
+
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Filterable;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.manipulation.Sortable;
+import org.junit.runner.manipulation.Sorter;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.InitializationError;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runner with a precomputed description that creates the actual runner only when it is run.  Filters and sorters are
+ * applied to the description immediately and to the actual runner when it is created.
+ */
+final class LazyRowRunner extends Runner implements Filterable, Sortable {
+
+    /**
+     * Factory for the actual runner.
+     */
+    @FunctionalInterface
+    interface RunnerFactory {
+        Runner create() throws InitializationError;
+    }
+
+    private final RunnerFactory runnerFactory;
+    private final List<Filter> filters = new ArrayList<>();
+    private final List<Sorter> sorters = new ArrayList<>();
+    private Description description;
+
+    LazyRowRunner(final Description description, final RunnerFactory runnerFactory) {
+        this.description = requireNonNull(description);
+        this.runnerFactory = requireNonNull(runnerFactory);
+    }
+
+    @Override
+    public Description getDescription() {
+        return description;
+    }
+
+    @Override
+    public void run(final RunNotifier notifier) {
+        final Runner runner;
+        try {
+            runner = runnerFactory.create();
+            for (final Filter filter : filters) {
+                filter.apply(runner);
+            }
+            for (final Sorter sorter : sorters) {
+                sorter.apply(runner);
+            }
+        } catch (final Throwable t) {
+            notifier.fireTestFailure(new Failure(description, t));
+            return;
+        }
+        runner.run(notifier);
+    }
+
+    @Override
+    public void filter(final Filter filter) throws NoTestsRemainException {
+        if (filter instanceof MethodLevelFilter) {
+            //see AbstractSpockitoTestRunner.filter(..)
+            return;
+        }
+        final Description filtered = description.childlessCopy();
+        for (final Description child : description.getChildren()) {
+            if (filter.shouldRun(child)) {
+                filtered.addChild(child);
+            }
+        }
+        if (filtered.getChildren().isEmpty()) {
+            throw new NoTestsRemainException();
+        }
+        description = filtered;
+        filters.add(filter);
+    }
+
+    @Override
+    public void sort(final Sorter sorter) {
+        final List<Description> children = new ArrayList<>(description.getChildren());
+        children.sort(sorter);
+        final Description sorted = description.childlessCopy();
+        children.forEach(sorted::addChild);
+        description = sorted;
+        sorters.add(sorter);
+    }
+}
@@ -26,15 +26,22 @@ package org.tools4j.spockito;
 import org.junit.runner.Description;
 import org.junit.runner.manipulation.Filter;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * Method filter wrapped around an original filter in {@link Spockito#filter(Filter)} to work around an Intellij problem
  * when re-running individual tests.
+ * <p>
+ * Results of the delegate filter for the relaxed descriptions are memoised by test class and method name.  Filtering an
+ * unrolled class hence creates and evaluates a relaxed description at most once per test method instead of once per
+ * row.
  */
 public final class MethodLevelFilter extends Filter {
 
     private final Filter delegate;
+    private final Map<String, Boolean> relaxedResults = new HashMap<>();
 
     public MethodLevelFilter(final Filter delegate) {
         this.delegate = Objects.requireNonNull(delegate);
@@ -52,16 +59,27 @@ public final class MethodLevelFilter extends Filter {
                 return true;
             }
             //Intellij bug, we get the wrong description, let us test with a slightly modified one now
-            final Description relaxed = Description.createTestDescription(
-                    child.getTestClass(), getMethodName(child.getDisplayName())
-            );
-            if (shouldRun(relaxed)) {
+            if (child.isTest() && shouldRunRelaxed(child)) {
                 return true;
             }
         }
         return false;
     }
 
+    private synchronized boolean shouldRunRelaxed(final Description test) {
+        final String methodName = getMethodName(test.getDisplayName());
+        final String key = test.getClassName() + "#" + methodName;
+        final Boolean result = relaxedResults.get(key);
+        if (result != null) {
+            return result;
+        }
+        final Class<?> testClass = test.getTestClass();
+        final boolean shouldRun = testClass != null &&
+                delegate.shouldRun(Description.createTestDescription(testClass, methodName));
+        relaxedResults.put(key, shouldRun);
+        return shouldRun;
+    }
+
     private static String getMethodName(final String name) {
         return name.substring(0, findFirstNonNameChar(name));
     }
@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito;
+
+import org.tools4j.spockito.table.Table;
+import org.tools4j.spockito.table.TableRow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Test name template compiled from a {@link Spockito.Name @Name} pattern into literal and placeholder segments.
+ * Placeholders are {@code {row}} for the row index, <code>{<i>index</i>}</code> for the value in the column with the
+ * given index, and <code>{<i>ColumnName</i>}</code> for the value in the column with the given name.  Placeholders
+ * that reference no column are rendered as is.
+ */
+final class NameTemplate {
+
+    private static final ConcurrentMap<String, NameTemplate> TEMPLATES = new ConcurrentHashMap<>();
+    private static final String ROW = "row";
+
+    private final String pattern;
+    private final String[] literals;
+    private final String[] placeholders;
+
+    private NameTemplate(final String pattern) {
+        final List<String> literals = new ArrayList<>();
+        final List<String> placeholders = new ArrayList<>();
+        int start = 0;
+        int open = pattern.indexOf('{');
+        while (open >= 0) {
+            final int close = pattern.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+            final int nested = pattern.lastIndexOf('{', close);
+            literals.add(pattern.substring(start, nested));
+            placeholders.add(pattern.substring(nested + 1, close));
+            start = close + 1;
+            open = pattern.indexOf('{', start);
+        }
+        literals.add(pattern.substring(start));
+        this.pattern = pattern;
+        this.literals = literals.toArray(new String[0]);
+        this.placeholders = placeholders.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the template for the given pattern, compiled on first access.
+     *
+     * @param pattern the name pattern
+     * @return the compiled template
+     */
+    static NameTemplate compile(final String pattern) {
+        requireNonNull(pattern);
+        final NameTemplate template = TEMPLATES.get(pattern);
+        return template != null ? template : TEMPLATES.computeIfAbsent(pattern, NameTemplate::new);
+    }
+
+    /**
+     * Renders the name for the given row.
+     *
+     * @param tableRow the row providing row index and column values
+     * @return the test name for the row
+     */
+    String render(final TableRow tableRow) {
+        if (placeholders.length == 0) {
+            return pattern;
+        }
+        final Table table = tableRow.getTable();
+        final StringBuilder name = new StringBuilder(pattern.length() + 16 * placeholders.length);
+        for (int i = 0; i < placeholders.length; i++) {
+            name.append(literals[i]);
+            appendPlaceholder(name, placeholders[i], tableRow, table);
+        }
+        return name.append(literals[placeholders.length]).toString();
+    }
+
+    private static void appendPlaceholder(final StringBuilder name,
+                                          final String placeholder,
+                                          final TableRow tableRow,
+                                          final Table table) {
+        if (ROW.equals(placeholder)) {
+            name.append(tableRow.getRowIndex());
+            return;
+        }
+        final int column = columnIndex(placeholder, table);
+        if (column >= 0) {
+            name.append(tableRow.get(column));
+        } else {
+            name.append('{').append(placeholder).append('}');
+        }
+    }
+
+    private static int columnIndex(final String placeholder, final Table table) {
+        final int index = indexOrMinusOne(placeholder);
+        if (index >= 0 && index < table.getColumnCount()) {
+            return index;
+        }
+        return table.hasColumn(placeholder) ? table.getColumnIndexByName(placeholder) : -1;
+    }
+
+    private static int indexOrMinusOne(final String placeholder) {
+        if (placeholder.isEmpty() || placeholder.length() > 9) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < placeholder.length(); i++) {
+            final char ch = placeholder.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return -1;
+            }
+            index = 10 * index + (ch - '0');
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito;
+
+import org.tools4j.spockito.table.Table;
+import org.tools4j.spockito.table.TableRow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A named group of table rows used to nest the rows of large tables in the description tree, see
+ * {@link Spockito.Group}.
+ */
+final class RowBucket {
+
+    private final String name;
+    private final List<TableRow> rows;
+
+    RowBucket(final String name, final List<TableRow> rows) {
+        this.name = requireNonNull(name);
+        this.rows = Collections.unmodifiableList(rows);
+    }
+
+    String name() {
+        return name;
+    }
+
+    List<TableRow> rows() {
+        return rows;
+    }
+
+    /**
+     * Groups the table rows accepted by the row filter into buckets as defined by the group annotation.  Buckets are
+     * returned in the order of their first row, and buckets without rows are omitted.
+     *
+     * @param group     the group annotation defining either bucket size or key column
+     * @param table     the table with the rows to group
+     * @param rowFilter filter for the rows to include, for instance rows of the current shard
+     * @param namePrefix prefix for bucket names such as the test class or method name, so that descriptions of
+     *                   buckets with the same rows or keys in different classes or methods are not equal
+     * @return the buckets with the grouped rows
+     * @throws IllegalArgumentException if the group annotation is invalid or refers to a non-existent column
+     */
+    static List<RowBucket> buckets(final Spockito.Group group,
+                                   final Table table,
+                                   final Predicate<? super TableRow> rowFilter,
+                                   final String namePrefix) {
+        final int size = group.size();
+        final String column = group.column();
+        if ((size > 0) == !column.isEmpty() || size < 0) {
+            throw new IllegalArgumentException("Either a positive size or a column must be specified for @" +
+                    Spockito.Group.class.getSimpleName() + ": " + group);
+        }
+        final int columnIndex = size > 0 ? -1 : table.getColumnIndexByName(column);
+        final Map<Object, List<TableRow>> rowsByKey = new LinkedHashMap<>();
+        for (final TableRow row : table) {
+            if (rowFilter.test(row)) {
+                final Object key = size > 0 ? (Object)(row.getRowIndex() / size) : row.get(columnIndex);
+                rowsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+            }
+        }
+        final List<RowBucket> buckets = new ArrayList<>(rowsByKey.size());
+        for (final Map.Entry<Object, List<TableRow>> entry : rowsByKey.entrySet()) {
+            final String name;
+            if (size > 0) {
+                final int first = (Integer)entry.getKey() * size;
+                final int last = Math.min(first + size, table.getRowCount()) - 1;
+                name = namePrefix + " rows " + first + "-" + last;
+            } else {
+                name = namePrefix + " " + column + "=" + entry.getKey();
+            }
+            buckets.add(new RowBucket(name, entry.getValue()));
+        }
+        return buckets;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito;
+
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.TestClass;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runner nesting the runners of a group of rows, see {@link Spockito.Group}.  Class level before and after methods are
+ * not invoked by a group runner as they are invoked by the enclosing {@link Spockito} runner.
+ */
+final class RowGroupRunner extends ParentRunner<Runner> {
+
+    private final String name;
+    private final List<Runner> children;
+
+    RowGroupRunner(final String name, final List<Runner> children) throws InitializationError {
+        super(new TestClass(null));
+        this.name = requireNonNull(name);
+        this.children = requireNonNull(children);
+    }
+
+    @Override
+    protected String getName() {
+        return name;
+    }
+
+    @Override
+    protected List<Runner> getChildren() {
+        return children;
+    }
+
+    @Override
+    protected Description describeChild(final Runner child) {
+        return child.getDescription();
+    }
+
+    @Override
+    protected void runChild(final Runner child, final RunNotifier notifier) {
+        child.run(ConcurrentRowScheduler.notifier(notifier));
+    }
+}
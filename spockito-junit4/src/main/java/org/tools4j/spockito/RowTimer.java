@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito;
+
+import org.junit.internal.AssumptionViolatedException;
+import org.tools4j.spockito.table.RowEvent;
+import org.tools4j.spockito.table.RowListeners;
+import org.tools4j.spockito.table.TableRow;
+
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Collects the timings of a test run with the values of a table row and publishes them as {@link RowEvent} to the
+ * {@link RowListeners}.  The timer is passed explicitly to the statements and conversions of the test run, which may
+ * be performed by different threads, for instance if a timeout is defined for the test.
+ * <p>
+ * Conversion time includes only the conversion of row values into constructor, field and method arguments.  Setup
+ * time is measured from the start of the method block until the test method is invoked, excluding conversions, and
+ * test time is measured for the test method invocation only, again excluding conversions.
+ */
+final class RowTimer {
+
+    private final String tableId;
+    private final String testName;
+    private final TableRow tableRow;
+    private final long startNanos = System.nanoTime();
+    private long testStartNanos = -1;
+    private long testEndNanos = -1;
+    private long setupConversionNanos;
+    private long testConversionNanos;
+
+    RowTimer(final String tableId, final String testName, final TableRow tableRow) {
+        this.tableId = requireNonNull(tableId);
+        this.testName = requireNonNull(testName);
+        this.tableRow = requireNonNull(tableRow);
+    }
+
+    /**
+     * Performs the given conversion and accounts for its duration as conversion time.
+     *
+     * @param timerOrNull   the timer, or null if no timings are collected
+     * @param conversion    the conversion to perform
+     * @param <T>           the type of the converted values
+     * @return the converted values
+     */
+    static <T> T convert(final RowTimer timerOrNull, final Supplier<? extends T> conversion) {
+        if (timerOrNull == null) {
+            return conversion.get();
+        }
+        final long start = System.nanoTime();
+        try {
+            return conversion.get();
+        } finally {
+            timerOrNull.converted(System.nanoTime() - start);
+        }
+    }
+
+    synchronized void testStarted() {
+        testStartNanos = System.nanoTime();
+    }
+
+    synchronized void testFinished() {
+        testEndNanos = System.nanoTime();
+    }
+
+    private synchronized void converted(final long conversionNanos) {
+        if (testStartNanos < 0) {
+            setupConversionNanos += conversionNanos;
+        } else {
+            testConversionNanos += conversionNanos;
+        }
+    }
+
+    void finish(final Throwable failureOrNull) {
+        final long endNanos = System.nanoTime();
+        final long testStart;
+        final long testEnd;
+        final long setupConversion;
+        final long testConversion;
+        synchronized (this) {
+            testStart = testStartNanos < 0 ? endNanos : testStartNanos;
+            testEnd = testEndNanos < 0 ? endNanos : testEndNanos;
+            setupConversion = setupConversionNanos;
+            testConversion = testConversionNanos;
+        }
+        final RowEvent.Outcome outcome = failureOrNull == null ? RowEvent.Outcome.SUCCESSFUL :
+                failureOrNull instanceof AssumptionViolatedException ? RowEvent.Outcome.ABORTED :
+                        RowEvent.Outcome.FAILED;
+        RowListeners.publish(new RowEvent(tableId, testName, tableRow.getRowIndex(), RowListeners.keyValues(tableRow),
+                outcome, failureOrNull,
+                setupConversion + testConversion,
+                Math.max(0, testStart - startNanos - setupConversion),
+                Math.max(0, testEnd - testStart - testConversion)));
+    }
+}
@@ -24,10 +24,13 @@
 package org.tools4j.spockito;
 
 import org.junit.Test;
+import org.junit.runner.Description;
 import org.junit.runners.model.FrameworkField;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.TestClass;
 import org.tools4j.spockito.Spockito.Unroll;
+import org.tools4j.spockito.table.Immutables;
 import org.tools4j.spockito.table.Table;
 import org.tools4j.spockito.table.TableRow;
 import org.tools4j.spockito.table.ValueConverter;
@@ -49,45 +52,116 @@ public class SingleRowMultiTestRunner extends AbstractSpockitoTestRunner {
 
     private final TableRow tableRow;
     private final ValueConverter defaultValueConverter;
+    private volatile Object[] sharedConstructorArgs;
+    private volatile Object[] sharedFieldValues;
+    private volatile Object rowInstance;
 
     public SingleRowMultiTestRunner(final Class<?> clazz,
                                     final TableRow tableRow,
                                     final ValueConverter defaultValueConverter) throws InitializationError {
-        super(clazz);
+        this(new TestClass(clazz), tableRow, defaultValueConverter);
+    }
+
+    public SingleRowMultiTestRunner(final TestClass testClass,
+                                    final TableRow tableRow,
+                                    final ValueConverter defaultValueConverter) throws InitializationError {
+        this(testClass, tableRow, defaultValueConverter, true);
+    }
+
+    /**
+     * Constructor with the option to skip validation, for instance if another runner for the same test class and table
+     * has been validated already.
+     */
+    SingleRowMultiTestRunner(final TestClass testClass,
+                             final TableRow tableRow,
+                             final ValueConverter defaultValueConverter,
+                             final boolean validate) throws InitializationError {
+        super(testClass);
         this.tableRow = Objects.requireNonNull(tableRow);
         this.defaultValueConverter = Objects.requireNonNull(defaultValueConverter);
-        validate();
+        if (validate) {
+            validate();
+        }
+    }
+
+    /**
+     * Returns a description equal to the description of a runner for the given test class and row, but without
+     * creating the runner.
+     *
+     * @param testClass the test class
+     * @param tableRow  the table row
+     * @return a suite description for the row with a child for every test method
+     */
+    static Description describe(final TestClass testClass, final TableRow tableRow) {
+        final Description description = Description.createSuiteDescription(
+                Spockito.getName(testClass.getOnlyConstructor(), tableRow));
+        for (final FrameworkMethod method : testClass.getAnnotatedMethods(Test.class)) {
+            description.addChild(describeChild(testClass, method, testName(method, tableRow)));
+        }
+        return description;
     }
 
     @Override
     public Object createTest() throws Exception {
-        final Object testInstance = createTestUsingConstructorInjection();
-        return fieldsAreAnnotated() ? injectAnnotatedFields(testInstance) : testInstance;
+        return createTestInstance(null);
+    }
+
+    @Override
+    protected TableRow tableRowOrNull(final FrameworkMethod method) {
+        return tableRow;
+    }
+
+    @Override
+    protected Object createTest(final FrameworkMethod method) throws Exception {
+        if (Spockito.lifecycle(getTestClass()) == Spockito.Lifecycle.Mode.PER_METHOD) {
+            return createTestInstance(rowTimerOrNull(method));
+        }
+        //PER_ROW and PER_CLASS: constructor arguments differ per row hence one instance per row
+        Object testInstance = rowInstance;
+        if (testInstance == null) {
+            testInstance = createTestInstance(rowTimerOrNull(method));
+            rowInstance = testInstance;
+        }
+        return testInstance;
+    }
+
+    private Object createTestInstance(final RowTimer timerOrNull) throws Exception {
+        final Object testInstance = createTestUsingConstructorInjection(timerOrNull);
+        return fieldsAreAnnotated() ? injectAnnotatedFields(testInstance, timerOrNull) : testInstance;
     }
 
-    private Object createTestUsingConstructorInjection() throws Exception {
+    private Object createTestUsingConstructorInjection(final RowTimer timerOrNull) throws Exception {
         final Constructor<?> constructor = getTestClass().getOnlyConstructor();
-        final ValueConverter valueConverter = Spockito.getValueConverter(constructor.getAnnotation(Spockito.UseValueConverter.class), defaultValueConverter);
-        final Object[] args = TableRowConverters.convert(tableRow, constructor, valueConverter);
+        Object[] args = sharedConstructorArgs;
+        if (args == null) {
+            final ValueConverter valueConverter = Spockito.getValueConverter(constructor.getAnnotation(Spockito.UseValueConverter.class), defaultValueConverter);
+            args = RowTimer.convert(timerOrNull, () -> TableRowConverters.convert(tableRow, constructor, valueConverter));
+            if (isShareable(args)) {
+                sharedConstructorArgs = args;
+            }
+        }
         return constructor.newInstance(args);
     }
 
-    private Object injectAnnotatedFields(final Object testInstance) throws Exception {
+    private Object injectAnnotatedFields(final Object testInstance, final RowTimer timerOrNull) throws Exception {
         final List<FrameworkField> frameworkFields = getFieldsAnnotatedByRef();
         final Field[] fields = frameworkFields.stream().map(FrameworkField::getField).toArray(Field[]::new);
-        final Object[] fieldValues = TableRowConverters.convert(tableRow, fields, defaultValueConverter);
-        for (int i = 0; i < fields.length; i++) {
-            final Field field = fields[i];
-            try {
-                field.setAccessible(true);
-                field.set(testInstance, fieldValues[i]);
-            } catch (final Exception e) {
-                throw new Exception(getTestClass().getName()
-                        + ": Trying to set " + field.getName()
-                        + " with the value " + fieldValues[i], e);
+        Object[] fieldValues = sharedFieldValues;
+        if (fieldValues == null) {
+            fieldValues = RowTimer.convert(timerOrNull, () -> TableRowConverters.convert(tableRow, fields, defaultValueConverter));
+            if (isShareable(fieldValues)) {
+                sharedFieldValues = fieldValues;
             }
         }
-        return testInstance;
+        return injectFields(testInstance, fields, fieldValues);
+    }
+
+    /**
+     * Returns true if converted values can be shared by all test instances of this row, that is, if the test class is
+     * annotated with {@link Spockito.ShareValues @ShareValues} or if all values are immutable.
+     */
+    private boolean isShareable(final Object[] values) {
+        return getTestClass().getAnnotation(Spockito.ShareValues.class) != null || Immutables.areImmutable(values);
     }
 
     @Override
@@ -115,7 +189,11 @@ public class SingleRowMultiTestRunner extends AbstractSpockitoTestRunner {
 
     @Override
     protected String testName(final FrameworkMethod method) {
-        final String testName = super.testName(method);
+        return testName(method, tableRow);
+    }
+
+    private static String testName(final FrameworkMethod method, final TableRow tableRow) {
+        final String testName = method.getName();
         //NOTE: we intentionally don't want class level Name annotation as a default here!
         final Spockito.Name name = method.getAnnotation(Spockito.Name.class);
         return name == null ? testName : testName + Spockito.getName(name, tableRow, "");
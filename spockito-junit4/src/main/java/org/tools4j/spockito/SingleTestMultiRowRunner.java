@@ -24,16 +24,21 @@
 package org.tools4j.spockito;
 
 import org.junit.Test;
+import org.junit.runners.model.FrameworkField;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.TestClass;
 import org.tools4j.spockito.Spockito.Unroll;
+import org.tools4j.spockito.table.Sharding;
 import org.tools4j.spockito.table.Table;
 import org.tools4j.spockito.table.TableRow;
 import org.tools4j.spockito.table.ValueConverter;
 
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A runner for the situation where a test method is to be run multiple times with all the rows of an unroll table.
@@ -43,19 +48,94 @@ public class SingleTestMultiRowRunner extends AbstractSpockitoTestRunner {
 
     private final FrameworkMethod testMethod;
     private final ValueConverter methodValueConverter;
+    private final AtomicReference<Object> classInstanceOrNull;
+    private final RowBucket bucketOrNull;
 
     public SingleTestMultiRowRunner(final Class<?> clazz,
                                     final FrameworkMethod testMethod,
                                     final ValueConverter methodValueConverter) throws InitializationError {
-        super(clazz);
+        this(new TestClass(clazz), testMethod, methodValueConverter);
+    }
+
+    public SingleTestMultiRowRunner(final TestClass testClass,
+                                    final FrameworkMethod testMethod,
+                                    final ValueConverter methodValueConverter) throws InitializationError {
+        this(testClass, testMethod, methodValueConverter, null);
+    }
+
+    /**
+     * Constructor with a reference to a test instance shared by all rows and test methods of the test class, or null
+     * to create a new test instance for every row.
+     */
+    SingleTestMultiRowRunner(final TestClass testClass,
+                             final FrameworkMethod testMethod,
+                             final ValueConverter methodValueConverter,
+                             final AtomicReference<Object> classInstanceOrNull) throws InitializationError {
+        this(testClass, testMethod, methodValueConverter, classInstanceOrNull, null, true);
+    }
+
+    /**
+     * Constructor for a runner that runs the test method only with the rows of the given bucket if not null, and with
+     * all table rows otherwise.
+     */
+    SingleTestMultiRowRunner(final TestClass testClass,
+                             final FrameworkMethod testMethod,
+                             final ValueConverter methodValueConverter,
+                             final AtomicReference<Object> classInstanceOrNull,
+                             final RowBucket bucketOrNull,
+                             final boolean validate) throws InitializationError {
+        super(testClass);
         this.testMethod = Objects.requireNonNull(testMethod);
         this.methodValueConverter = Objects.requireNonNull(methodValueConverter);
-        validate();
+        this.classInstanceOrNull = classInstanceOrNull;
+        this.bucketOrNull = bucketOrNull;
+        if (validate) {
+            validate();
+        }
+    }
+
+    @Override
+    protected Object createTest(final FrameworkMethod method) throws Exception {
+        if (classInstanceOrNull == null) {
+            return super.createTest(method);
+        }
+        Object testInstance = classInstanceOrNull.get();
+        if (testInstance == null) {
+            testInstance = createTest();
+            classInstanceOrNull.set(testInstance);
+        }
+        if (method instanceof UnrolledTestMethod) {
+            final TableRow tableRow = ((UnrolledTestMethod)method).getTableRow();
+            final Field[] fields = refFields(tableRow.getTable());
+            final Object[] fieldValues = RowTimer.convert(rowTimerOrNull(method),
+                    () -> TableRowConverters.convert(tableRow, fields, methodValueConverter));
+            return injectFields(testInstance, fields, fieldValues);
+        }
+        return testInstance;
+    }
+
+    private Field[] refFields(final Table table) {
+        return getTestClass().getAnnotatedFields(Spockito.Ref.class).stream()
+                .map(FrameworkField::getField)
+                .filter(field -> isValidRefOrName(table, Spockito.fieldRefOrName(field)))
+                .toArray(Field[]::new);
+    }
+
+    private static boolean isValidRefOrName(final Table table, final String name) {
+        if (Spockito.Ref.ROW_INDEX.equals(name) || Spockito.Ref.ALL_COLUMNS.equals(name)) {
+            return true;
+        }
+        try {
+            table.getColumnIndexByName(name);
+            return true;
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
     }
 
     @Override
     protected String getName() {
-        return testMethod.getName();
+        return bucketOrNull == null ? testMethod.getName() : bucketOrNull.name();
     }
 
     @Override
@@ -72,6 +152,8 @@ public class SingleTestMultiRowRunner extends AbstractSpockitoTestRunner {
         final Spockito.Unroll unroll = testMethod.getAnnotation(Spockito.Unroll.class);
         if (unroll == null) {
             testMethods.add(testMethod);
+        } else if (bucketOrNull != null) {
+            testMethods.addAll(unroll(bucketOrNull.rows()));
         } else {
             final Table table = Table.parse(unroll.value());
             testMethods.addAll(unroll(table));
@@ -79,9 +161,29 @@ public class SingleTestMultiRowRunner extends AbstractSpockitoTestRunner {
         return testMethods;
     }
 
-    private List<UnrolledTestMethod> unroll(final Table table) {
-        final List<UnrolledTestMethod> unrolled = new ArrayList<>(table.getRowCount());
-        for (final TableRow row : table) {
+    /**
+     * Returns the test methods for the rows of the current {@linkplain Sharding shard};  the test methods for all rows
+     * are still validated via {@link #computeTestMethods()}.
+     */
+    @Override
+    protected List<FrameworkMethod> getChildren() {
+        final List<FrameworkMethod> children = super.getChildren();
+        final Sharding sharding = Sharding.fromSystemProperties();
+        if (!sharding.isSharded()) {
+            return children;
+        }
+        final List<FrameworkMethod> sharded = new ArrayList<>(children.size());
+        for (final FrameworkMethod child : children) {
+            if (!(child instanceof UnrolledTestMethod) || sharding.test(((UnrolledTestMethod)child).getTableRow())) {
+                sharded.add(child);
+            }
+        }
+        return sharded;
+    }
+
+    private List<UnrolledTestMethod> unroll(final Iterable<TableRow> rows) {
+        final List<UnrolledTestMethod> unrolled = new ArrayList<>();
+        for (final TableRow row : rows) {
             final UnrolledTestMethod unrolledTestMethod = new UnrolledTestMethod(testMethod.getMethod(), row, methodValueConverter);
             unrolled.add(unrolledTestMethod);
         }
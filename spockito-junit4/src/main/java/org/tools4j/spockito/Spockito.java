@@ -25,13 +25,17 @@ package org.tools4j.spockito;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.junit.internal.runners.ErrorReportingRunner;
 import org.junit.runner.Runner;
 import org.junit.runner.manipulation.Filter;
 import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.ParentRunner;
 import org.junit.runners.Suite;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.TestClass;
+import org.tools4j.spockito.table.Sharding;
 import org.tools4j.spockito.table.SpockitoValueConverter;
 import org.tools4j.spockito.table.Table;
 import org.tools4j.spockito.table.TableRow;
@@ -48,7 +52,9 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * The custom runner <code>Spockito</code> implements parameterized tests where the test data
@@ -173,6 +179,101 @@ public class Spockito extends Suite {
         Class<? extends ValueConverter> value() default SpockitoValueConverter.class;
     }
 
+    /**
+     * Add this annotation to your test class to run unrolled rows concurrently.  With class level unrolling, the rows
+     * run concurrently;  with method level unrolling, the rows of every test method run concurrently but test methods
+     * run one after another.  If rows are nested in {@link Group groups}, the rows of a group run concurrently but
+     * groups run one after another.  Test results are reported in the same order as for sequential execution.
+     * <p>
+     * Concurrent execution can also be enabled for all spockito tests via system property
+     * {@value #CONCURRENT_THREADS_PROPERTY} set to the number of threads.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Inherited
+    @Target(ElementType.TYPE)
+    public @interface Concurrent {
+        /**
+         * @return the maximum number of rows running concurrently, or zero for the number of available processors
+         */
+        int threads() default 0;
+    }
+
+    /**
+     * Add this annotation to a test class with class level unrolling to convert constructor arguments and
+     * {@link Ref @Ref} field values only once per row and share them among all test methods of the row.  Without this
+     * annotation, values are shared only if they are all of well-known immutable types.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Inherited
+    @Target(ElementType.TYPE)
+    public @interface ShareValues {
+    }
+
+    /**
+     * Add this annotation to a test class to reuse test instances instead of creating a new instance for every test
+     * method invocation.  Methods annotated with {@link org.junit.Before @Before} and {@link org.junit.After @After} are
+     * still invoked for every test method.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Inherited
+    @Target(ElementType.TYPE)
+    public @interface Lifecycle {
+        /**
+         * Test instance lifecycle modes.
+         */
+        enum Mode {
+            /** A new test instance is created for every test method and row, this is the default */
+            PER_METHOD,
+            /**
+             * With class level unrolling, one test instance is created per row and shared by all test methods of the
+             * row;  with method level unrolling, this is equivalent to {@link #PER_METHOD}
+             */
+            PER_ROW,
+            /**
+             * With method level unrolling, a single test instance is shared by all test methods and rows, and fields
+             * annotated with {@link Ref @Ref} are re-injected with the values of every row;  with class level
+             * unrolling, this is equivalent to {@link #PER_ROW}.  Rows are not run concurrently in this mode.
+             */
+            PER_CLASS
+        }
+
+        /**
+         * @return the test instance lifecycle mode
+         */
+        Mode value();
+    }
+
+    /**
+     * Add this annotation to a test class or test method with a large unroll table to nest the rows in groups in the
+     * test description tree, for instance to keep test reports and IDEs responsive.  Rows are grouped either in
+     * fixed-size ranges of row indices such as {@code testMethod rows 0-999}, or by the value of a key column such as
+     * {@code testMethod Country=CH}, prefixed with the test method name or with the simple test class name for class
+     * level unrolling.  Exactly one of {@link #size()} and {@link #column()} must be specified.  Grouping only adds a
+     * level to the description tree, the descriptions of all rows are still created up front.
+     * <p>
+     * With class level unrolling the annotation is only considered on the test class;  with method level unrolling, an
+     * annotation on the test method takes precedence over an annotation on the test class.  Test names are not changed
+     * by grouping, hence re-running individual tests works as without grouping.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Inherited
+    @Target(value = {ElementType.TYPE, ElementType.METHOD})
+    public @interface Group {
+        /**
+         * @return the number of rows per group, or zero if rows are grouped by {@link #column()}
+         */
+        int size() default 0;
+
+        /**
+         * @return the name of the column whose values define the groups, or empty if rows are grouped by
+         *         {@link #size()}
+         */
+        String column() default "";
+    }
+
+    /** System property with number of threads to run rows concurrently for all tests, see {@link Concurrent} */
+    public static final String CONCURRENT_THREADS_PROPERTY = "spockito.concurrent.threads";
+
     /**
      * Only called reflectively. Do not use programmatically.
      * @param clazz the test class
@@ -180,6 +281,34 @@ public class Spockito extends Suite {
      */
     public Spockito(final Class<?> clazz) throws InitializationError {
         super(clazz, createRunners(clazz));
+        final int threads = concurrentThreads(clazz);
+        if (threads > 0) {
+            if (getChildren().stream().anyMatch(LazyRowRunner.class::isInstance)) {
+                //class level unrolling with a runner per row
+                setScheduler(new ConcurrentRowScheduler(threads));
+            } else if (classWideUnrollOrNull(clazz) != null) {
+                //class level rows of a group
+                for (final Runner runner : getChildren()) {
+                    ((ParentRunner<?>)runner).setScheduler(new ConcurrentRowScheduler(threads));
+                }
+            } else if (lifecycle(getTestClass()) != Lifecycle.Mode.PER_CLASS) {
+                //rows of a test method, or of every group of a test method
+                for (final Runner runner : getChildren()) {
+                    final List<Runner> rowRunners = runner instanceof RowGroupRunner ?
+                            ((RowGroupRunner)runner).getChildren() : Collections.singletonList(runner);
+                    for (final Runner rowRunner : rowRunners) {
+                        if (rowRunner instanceof ParentRunner) {
+                            ((ParentRunner<?>)rowRunner).setScheduler(new ConcurrentRowScheduler(threads));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void runChild(final Runner runner, final RunNotifier notifier) {
+        super.runChild(runner, ConcurrentRowScheduler.notifier(notifier));
     }
 
     @Override
@@ -187,11 +316,13 @@ public class Spockito extends Suite {
         super.filter(new MethodLevelFilter(filter));
     }
 
+    private static Unroll classWideUnrollOrNull(final Class<?> clazz) {
+        final Unroll unroll = getOnlyConstructor(clazz).getAnnotation(Unroll.class);
+        return unroll != null ? unroll : clazz.getAnnotation(Unroll.class);
+    }
+
     private static Table classWideTableOrNull(final Class<?> clazz) {
-        Unroll unroll = getOnlyConstructor(clazz).getAnnotation(Unroll.class);
-        if (unroll == null) {
-            unroll = clazz.getAnnotation(Unroll.class);
-        }
+        final Unroll unroll = classWideUnrollOrNull(clazz);
         return unroll == null ? null : Table.parse(unroll.value());
     }
 
@@ -199,20 +330,113 @@ public class Spockito extends Suite {
         final ValueConverter defaultValueConverter = getDefaultValueConverter(clazz);
         final List<Runner> runners = new ArrayList<>();
         final Table classWideTable = classWideTableOrNull(clazz);
+        final TestClass testClass = new TestClass(clazz);
+        final Sharding sharding = Sharding.fromSystemProperties();
         if (classWideTable != null) {
-            for (final TableRow row : classWideTable) {
-                runners.add(new SingleRowMultiTestRunner(clazz, row, defaultValueConverter));
+            if (classWideTable.getRowCount() > 0) {
+                //validate once, all rows share the same test class and table
+                new SingleRowMultiTestRunner(testClass, classWideTable.getRow(0), defaultValueConverter);
+            }
+            final Group group = testClass.getAnnotation(Group.class);
+            if (group == null) {
+                final List<TableRow> rows = new ArrayList<>(classWideTable.getRowCount());
+                for (final TableRow row : classWideTable) {
+                    if (sharding.test(row)) {
+                        rows.add(row);
+                    }
+                }
+                runners.addAll(rowRunners(testClass, rows, defaultValueConverter));
+            } else {
+                for (final RowBucket bucket : buckets(group, classWideTable, sharding, clazz.getSimpleName(), clazz)) {
+                    runners.add(new RowGroupRunner(bucket.name(),
+                            rowRunners(testClass, bucket.rows(), defaultValueConverter)));
+                }
             }
         } else {
-            for (final FrameworkMethod testMethod : new TestClass(clazz).getAnnotatedMethods(Test.class)) {
+            final AtomicReference<Object> classInstance = lifecycle(testClass) == Lifecycle.Mode.PER_CLASS ?
+                    new AtomicReference<>() : null;
+            for (final FrameworkMethod testMethod : testClass.getAnnotatedMethods(Test.class)) {
                 final Spockito.UseValueConverter useValueConverter = testMethod.getAnnotation(Spockito.UseValueConverter.class);
                 final ValueConverter methodValueConverter = Spockito.getValueConverter(useValueConverter, defaultValueConverter);
-                runners.add(new SingleTestMultiRowRunner(clazz, testMethod, methodValueConverter));
+                final Unroll unroll = testMethod.getAnnotation(Unroll.class);
+                final Group methodGroup = testMethod.getAnnotation(Group.class);
+                final Group group = methodGroup != null ? methodGroup : testClass.getAnnotation(Group.class);
+                if (unroll != null && group != null) {
+                    final List<RowBucket> buckets = buckets(group, Table.parse(unroll.value()), sharding,
+                            testMethod.getName(), testMethod.getMethod());
+                    if (!buckets.isEmpty()) {
+                        //validate once, the runners for all buckets share the same test class and method
+                        new SingleTestMultiRowRunner(testClass, testMethod, methodValueConverter, classInstance,
+                                buckets.get(0), true);
+                        runners.add(new RowGroupRunner(testMethod.getName(), bucketRunners(testClass, testMethod,
+                                methodValueConverter, classInstance, buckets)));
+                    }
+                    continue;
+                }
+                final SingleTestMultiRowRunner runner = new SingleTestMultiRowRunner(testClass, testMethod,
+                        methodValueConverter, classInstance);
+                if (!runner.getDescription().getChildren().isEmpty()) {
+                    //skip methods without rows in the current shard
+                    runners.add(runner);
+                }
+            }
+        }
+        return runners;
+    }
+
+    private static List<Runner> rowRunners(final TestClass testClass,
+                                           final List<TableRow> rows,
+                                           final ValueConverter defaultValueConverter) {
+        final List<Runner> runners = new ArrayList<>(rows.size());
+        for (final TableRow row : rows) {
+            runners.add(new LazyRowRunner(SingleRowMultiTestRunner.describe(testClass, row),
+                    () -> new SingleRowMultiTestRunner(testClass, row, defaultValueConverter, false)));
+        }
+        return runners;
+    }
+
+    private static List<Runner> bucketRunners(final TestClass testClass,
+                                              final FrameworkMethod testMethod,
+                                              final ValueConverter methodValueConverter,
+                                              final AtomicReference<Object> classInstance,
+                                              final List<RowBucket> buckets) {
+        final List<Runner> runners = new ArrayList<>(buckets.size());
+        for (final RowBucket bucket : buckets) {
+            try {
+                runners.add(new SingleTestMultiRowRunner(testClass, testMethod, methodValueConverter, classInstance,
+                        bucket, false));
+            } catch (final InitializationError e) {
+                runners.add(new ErrorReportingRunner(testClass.getJavaClass(), e));
             }
         }
         return runners;
     }
 
+    private static List<RowBucket> buckets(final Group group,
+                                           final Table table,
+                                           final Sharding sharding,
+                                           final String namePrefix,
+                                           final Object annotatedElement) throws InitializationError {
+        try {
+            return RowBucket.buckets(group, table, sharding, namePrefix);
+        } catch (final IllegalArgumentException e) {
+            throw new InitializationError(annotatedElement + ": " + e.getMessage());
+        }
+    }
+
+    static Lifecycle.Mode lifecycle(final TestClass testClass) {
+        final Lifecycle lifecycle = testClass.getAnnotation(Lifecycle.class);
+        return lifecycle == null ? Lifecycle.Mode.PER_METHOD : lifecycle.value();
+    }
+
+    private static int concurrentThreads(final Class<?> clazz) {
+        final Concurrent concurrent = clazz.getAnnotation(Concurrent.class);
+        if (concurrent == null) {
+            return Integer.getInteger(CONCURRENT_THREADS_PROPERTY, 0);
+        }
+        return concurrent.threads() > 0 ? concurrent.threads() : Runtime.getRuntime().availableProcessors();
+    }
+
     private static Constructor<?> getOnlyConstructor(final Class<?> clazz) {
         Constructor<?>[] constructors = clazz.getConstructors();
         Assert.assertEquals(1, constructors.length);
@@ -232,16 +456,7 @@ public class Spockito extends Suite {
         return getName(nameAnnotationOrNull(executable), tableRow, DEFAULT_NAME);
     }
     static String getName(final Name name, final TableRow tableRow, final String defaultName) {
-        final String unresolved = name != null ? name.value() : defaultName;
-        String resolved = unresolved;
-        resolved = resolved.replaceAll("\\{row\\}", String.valueOf(tableRow.getRowIndex()));
-        final Table table = tableRow.getTable();
-        for (int col = 0; col < table.getColumnCount(); col++) {
-            final String value = tableRow.get(col);
-            resolved = resolved.replaceAll("\\{" + col + "\\}", value);
-            resolved = resolved.replaceAll("\\{" + table.getColumnName(col) + "\\}", value);
-        }
-        return resolved;
+        return NameTemplate.compile(name != null ? name.value() : defaultName).render(tableRow);
     }
 
     static ValueConverter getValueConverter(final Spockito.UseValueConverter useValueConverter, final ValueConverter defaultValueConverter) {
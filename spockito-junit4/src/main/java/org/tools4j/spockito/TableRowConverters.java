@@ -82,20 +82,11 @@ enum TableRowConverters {
     }
 
     static Object[] convert(final TableRow tableRow, final Executable executable, final ValueConverter valueConverter) {
-        final Parameter[] parameters = executable.getParameters();
-        final Object[] values = new Object[parameters.length];
-        for (int i = 0; i < values.length; i++) {
-            values[i] = create(null, parameters[i], i, valueConverter).convert(tableRow);
-        }
-        return values;
+        return BindingPlan.forExecutable(executable, tableRow.getTable(), valueConverter).convert(tableRow);
     }
 
     static Object[] convert(final TableRow tableRow, final Field[] fields, final ValueConverter valueConverter) {
-        final Object[] values = new Object[fields.length];
-        for (int i = 0; i < values.length; i++) {
-            values[i] = create(fields[i], valueConverter).convert(tableRow);
-        }
-        return values;
+        return BindingPlan.forFields(fields, tableRow.getTable(), valueConverter).convert(tableRow);
     }
 
     private static InjectionContext dataSubContextOrNull(final InjectionContext context,
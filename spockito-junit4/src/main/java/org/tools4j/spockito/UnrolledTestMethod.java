@@ -50,6 +50,10 @@ public class UnrolledTestMethod extends FrameworkMethod {
         return super.invokeExplosively(target, getTestArgs());
     }
 
+    Object invokeExplosively(final Object target, final RowTimer timer) throws Throwable {
+        return super.invokeExplosively(target, RowTimer.convert(timer, this::getTestArgs));
+    }
+
     protected TableRow getTableRow() {
         return tableRow;
     }
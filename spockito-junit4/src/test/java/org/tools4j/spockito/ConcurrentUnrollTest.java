@@ -0,0 +1,331 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runner.notification.StoppedByUserException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ConcurrentUnrollTest {
+
+    private static final Set<String> THREADS = ConcurrentHashMap.newKeySet();
+    private static final Map<String, Long> END_NANOS = new ConcurrentHashMap<>();
+    private static final Map<String, String> THREADS_BY_ROW = new ConcurrentHashMap<>();
+
+    @RunWith(Spockito.class)
+    @Spockito.Concurrent(threads = 4)
+    @Spockito.Unroll({
+            "| Name  | Age |",
+            "| Henry |  41 |",
+            "| Jessy | 156 |",
+            "| Nina  |   3 |",
+            "| Gary  |   1 |"
+    })
+    public static class ConcurrentRows {
+        private final String name;
+        private final int age;
+
+        public ConcurrentRows(final String name, final int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        @Test
+        @Spockito.Name("[{row}]: {Name}")
+        public void checkAge() throws InterruptedException {
+            THREADS.add(Thread.currentThread().getName());
+            //make earlier rows finish last
+            Thread.sleep(age);
+            END_NANOS.put(name, System.nanoTime());
+            Assert.assertFalse(name + " should be younger than 200", age >= 200);
+        }
+    }
+
+    @RunWith(Spockito.class)
+    @Spockito.Concurrent(threads = 2)
+    public static class ConcurrentMethodRows {
+        @Test
+        @Spockito.Unroll({
+                "| Object   | Vertices |",
+                "| Triangle |     3    |",
+                "| Square   |     4    |",
+                "| Pentagon |     5    |"
+        })
+        public void checkVertices(final String object, final int vertices) {
+            THREADS.add(Thread.currentThread().getName());
+            Assert.assertTrue(object + " should have at least 3 vertices", vertices >= 3);
+        }
+    }
+
+    @RunWith(Spockito.class)
+    @Spockito.Concurrent(threads = 1)
+    @Spockito.Unroll({
+            "| Name  | Age |",
+            "| Henry |  -1 |",
+            "| Jessy |  56 |",
+            "| Nina  |   3 |",
+            "| Gary  |   1 |"
+    })
+    public static class FailingConcurrentRows {
+        //only fails when run by stopRequestStopsRemainingRows()
+        static volatile boolean failNegativeAge;
+        private final String name;
+        private final int age;
+
+        public FailingConcurrentRows(final String name, final int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        @Test
+        public void checkAge() {
+            Assert.assertTrue(name + " should not have a negative age", age >= 0 || !failNegativeAge);
+        }
+    }
+
+    @RunWith(Spockito.class)
+    @Spockito.Concurrent(threads = 2)
+    public static class ConcurrentMethodGroupRows {
+        @Test
+        @Spockito.Unroll({
+                "| Object   | Vertices |",
+                "| Triangle |     3    |",
+                "| Square   |     4    |",
+                "| Pentagon |     5    |",
+                "| Hexagon  |     6    |"
+        })
+        @Spockito.Group(size = 2)
+        public void checkVertices(final String object, final int vertices) throws InterruptedException {
+            THREADS_BY_ROW.put(object, Thread.currentThread().getName());
+            Thread.sleep(vertices);
+            Assert.assertTrue(object + " should have at least 3 vertices", vertices >= 3);
+        }
+    }
+
+    private static final class EventRecorder extends RunListener {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void testStarted(final Description description) {
+            events.add("started:" + description.getMethodName());
+        }
+
+        @Override
+        public void testFinished(final Description description) {
+            events.add("finished:" + description.getMethodName());
+        }
+
+    }
+
+    private static List<String> runAndRecordEvents(final Class<?> testClass, final int expectedRunCount) {
+        final JUnitCore core = new JUnitCore();
+        final EventRecorder recorder = new EventRecorder();
+        core.addListener(recorder);
+        final Result result = core.run(testClass);
+        assertEquals("run count", expectedRunCount, result.getRunCount());
+        assertEquals("failure count", 0, result.getFailureCount());
+        return recorder.events;
+    }
+
+    @Test
+    public void concurrentClassLevelRowsReportedInOrder() {
+        //given
+        THREADS.clear();
+
+        //when
+        final List<String> events = runAndRecordEvents(ConcurrentRows.class, 4);
+
+        //then
+        assertEquals(Arrays.asList(
+                "started:checkAge[0]: Henry", "finished:checkAge[0]: Henry",
+                "started:checkAge[1]: Jessy", "finished:checkAge[1]: Jessy",
+                "started:checkAge[2]: Nina", "finished:checkAge[2]: Nina",
+                "started:checkAge[3]: Gary", "finished:checkAge[3]: Gary"
+        ), events);
+        assertFalse("should not run on main thread", THREADS.contains(Thread.currentThread().getName()));
+        assertTrue("should run on multiple threads: " + THREADS, THREADS.size() > 1);
+    }
+
+    @Test
+    public void concurrentRowsOfMethodLevelGroups() {
+        //given
+        THREADS_BY_ROW.clear();
+
+        //when
+        final List<String> events = runAndRecordEvents(ConcurrentMethodGroupRows.class, 4);
+
+        //then
+        assertEquals(Arrays.asList(
+                "started:checkVertices[0]: Triangle", "finished:checkVertices[0]: Triangle",
+                "started:checkVertices[1]: Square", "finished:checkVertices[1]: Square",
+                "started:checkVertices[2]: Pentagon", "finished:checkVertices[2]: Pentagon",
+                "started:checkVertices[3]: Hexagon", "finished:checkVertices[3]: Hexagon"
+        ), events);
+        //rows of a group run concurrently, each started on a new thread of the group's fixed size thread pool
+        assertNotEquals("rows of first group should run on different threads",
+                THREADS_BY_ROW.get("Triangle"), THREADS_BY_ROW.get("Square"));
+        assertNotEquals("rows of second group should run on different threads",
+                THREADS_BY_ROW.get("Pentagon"), THREADS_BY_ROW.get("Hexagon"));
+    }
+
+    @Test
+    public void concurrentMethodLevelRowsReportedInOrder() {
+        //given
+        THREADS.clear();
+
+        //when
+        final List<String> events = runAndRecordEvents(ConcurrentMethodRows.class, 3);
+
+        //then
+        assertEquals(Arrays.asList(
+                "started:checkVertices[0]: Triangle", "finished:checkVertices[0]: Triangle",
+                "started:checkVertices[1]: Square", "finished:checkVertices[1]: Square",
+                "started:checkVertices[2]: Pentagon", "finished:checkVertices[2]: Pentagon"
+        ), events);
+        assertFalse("should not run on main thread", THREADS.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void eventsOfFirstRunningRowForwardedAsTheyOccur() {
+        //given
+        final Map<String, Long> finishedNanos = new ConcurrentHashMap<>();
+        final JUnitCore core = new JUnitCore();
+        END_NANOS.clear();
+        core.addListener(new RunListener() {
+            @Override
+            public void testFinished(final Description description) {
+                finishedNanos.put(description.getMethodName(), System.nanoTime());
+            }
+        });
+
+        //when
+        final Result result = core.run(ConcurrentRows.class);
+
+        //then
+        assertEquals("run count", 4, result.getRunCount());
+        assertEquals("event count", 4, finishedNanos.size());
+        //Jessy takes more than 100ms longer than Henry, whose events should not be held back until all rows are done
+        assertTrue("first row should be reported before second row ends",
+                finishedNanos.get("checkAge[0]: Henry") < END_NANOS.get("Jessy"));
+    }
+
+    @Test
+    public void stopRequestStopsRemainingRows() {
+        //given
+        final RunNotifier notifier = new RunNotifier();
+        final List<String> events = new ArrayList<>();
+        notifier.addListener(new RunListener() {
+            @Override
+            public void testStarted(final Description description) {
+                events.add("started:" + description.getMethodName());
+            }
+
+            @Override
+            public void testFailure(final Failure failure) {
+                events.add("failed:" + failure.getDescription().getMethodName());
+                notifier.pleaseStop();
+            }
+        });
+
+        //when
+        FailingConcurrentRows.failNegativeAge = true;
+        try {
+            Request.aClass(FailingConcurrentRows.class).getRunner().run(notifier);
+            fail("expected StoppedByUserException");
+        } catch (final StoppedByUserException e) {
+            //expected
+        } finally {
+            FailingConcurrentRows.failNegativeAge = false;
+        }
+
+        //then
+        assertEquals(Arrays.asList("started:checkAge", "failed:checkAge"), events);
+    }
+
+    @Test
+    public void stopRequestOfRowForwardedToNotifier() {
+        //given
+        final RunNotifier notifier = new RunNotifier();
+        final ConcurrentRowScheduler scheduler = new ConcurrentRowScheduler(2);
+        final List<String> events = new ArrayList<>();
+        final Description description = Description.createTestDescription(ConcurrentRows.class, "checkAge");
+
+        //when
+        scheduler.schedule(() -> {
+            final RunNotifier rowNotifier = ConcurrentRowScheduler.notifier(notifier);
+            rowNotifier.pleaseStop();
+            try {
+                rowNotifier.fireTestStarted(description);
+                events.add("started");
+            } catch (final StoppedByUserException e) {
+                events.add("stopped");
+            }
+        });
+        scheduler.finished();
+
+        //then
+        assertEquals(Collections.singletonList("stopped"), events);
+        try {
+            notifier.fireTestStarted(description);
+            fail("expected StoppedByUserException");
+        } catch (final StoppedByUserException e) {
+            //expected
+        }
+    }
+
+    @Test
+    public void finishedWithoutScheduledRows() {
+        //given
+        final ConcurrentRowScheduler scheduler = new ConcurrentRowScheduler(2);
+
+        //when
+        scheduler.finished();
+
+        //then
+        scheduler.schedule(() -> THREADS.add(Thread.currentThread().getName()));
+        scheduler.finished();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.junit.runner.RunWith;
+import org.tools4j.spockito.Spockito.Lifecycle;
+import org.tools4j.spockito.Spockito.Ref;
+import org.tools4j.spockito.Spockito.Unroll;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+@Lifecycle(Lifecycle.Mode.PER_CLASS)
+@RunWith(Spockito.class)
+public class LifecyclePerClassTest {
+
+    private static final Set<Object> INSTANCES = Collections.synchronizedSet(
+            Collections.newSetFromMap(new IdentityHashMap<>()));
+    private static final List<String> BEFORE_TESTS = Collections.synchronizedList(new ArrayList<>());
+    private static final List<String> TESTS = Collections.synchronizedList(new ArrayList<>());
+    private static final List<String> AFTER_TESTS = Collections.synchronizedList(new ArrayList<>());
+
+    @Rule
+    public final TestName testName = new TestName();
+
+    @Ref
+    private String name;
+    @Ref
+    private int age;
+
+    @AfterClass
+    public static void assertSingleInstance() throws Exception {
+        final int invocations = LifecyclePerRowTest.rowsInCurrentShard(LifecyclePerClassTest.class
+                .getMethod("testNameAndAge", String.class, int.class).getAnnotation(Unroll.class)) +
+                LifecyclePerRowTest.rowsInCurrentShard(LifecyclePerClassTest.class
+                        .getMethod("testName", String.class).getAnnotation(Unroll.class));
+        assertEquals("one test instance for all rows and methods", invocations > 0 ? 1 : 0, INSTANCES.size());
+        assertEquals("invocations", invocations, TESTS.size());
+        assertEquals("before methods should run for every row",
+                LifecyclePerRowTest.sorted(TESTS), LifecyclePerRowTest.sorted(BEFORE_TESTS));
+        assertEquals("after methods should run for every row",
+                LifecyclePerRowTest.sorted(TESTS), LifecyclePerRowTest.sorted(AFTER_TESTS));
+    }
+
+    @Before
+    public void beforeEach() {
+        BEFORE_TESTS.add(testName.getMethodName());
+    }
+
+    @After
+    public void afterEach() {
+        AFTER_TESTS.add(testName.getMethodName());
+    }
+
+    private void recordInvocation() {
+        INSTANCES.add(this);
+        assertEquals("before method should run before test", testName.getMethodName(),
+                BEFORE_TESTS.get(BEFORE_TESTS.size() - 1));
+        TESTS.add(testName.getMethodName());
+    }
+
+    @Test
+    @Unroll({
+            "| Name  | Age |",
+            "|-------|-----|",
+            "| Henry | 42  |",
+            "| Jessy | 17  |"
+    })
+    public void testNameAndAge(final String name, final int age) {
+        recordInvocation();
+        assertEquals("name field should be re-injected for every row", name, this.name);
+        assertEquals("age field should be re-injected for every row", age, this.age);
+    }
+
+    @Test
+    @Unroll({
+            "| Name   |",
+            "|--------|",
+            "| Alice  |",
+            "| Bob    |",
+            "| Olivia |"
+    })
+    public void testName(final String name) {
+        recordInvocation();
+        assertEquals("name field should be re-injected for every row", name, this.name);
+    }
+}
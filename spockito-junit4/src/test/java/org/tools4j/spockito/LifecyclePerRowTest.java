@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.junit.runner.RunWith;
+import org.tools4j.spockito.Spockito.Lifecycle;
+import org.tools4j.spockito.Spockito.Unroll;
+import org.tools4j.spockito.table.Sharding;
+import org.tools4j.spockito.table.Table;
+import org.tools4j.spockito.table.TableRow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+@Unroll({
+        "| Name  | Age |",
+        "|-------|-----|",
+        "| Henry | 42  |",
+        "| Jessy | 17  |"
+})
+@Lifecycle(Lifecycle.Mode.PER_ROW)
+@RunWith(Spockito.class)
+public class LifecyclePerRowTest {
+
+    private static final Set<Object> INSTANCES = Collections.synchronizedSet(
+            Collections.newSetFromMap(new IdentityHashMap<>()));
+    private static final List<String> BEFORE_TESTS = Collections.synchronizedList(new ArrayList<>());
+    private static final List<String> TESTS = Collections.synchronizedList(new ArrayList<>());
+    private static final List<String> AFTER_TESTS = Collections.synchronizedList(new ArrayList<>());
+
+    @Rule
+    public final TestName testName = new TestName();
+
+    private final String name;
+    private final int age;
+
+    public LifecyclePerRowTest(final String name, final int age) {
+        this.name = name;
+        this.age = age;
+    }
+
+    @AfterClass
+    public static void assertInstancePerRow() {
+        final int rows = rowsInCurrentShard(LifecyclePerRowTest.class.getAnnotation(Unroll.class));
+        assertEquals("one test instance per row", rows, INSTANCES.size());
+        assertEquals("tests", 2 * rows, TESTS.size());
+        assertEquals("before methods should run for every test", sorted(TESTS), sorted(BEFORE_TESTS));
+        assertEquals("after methods should run for every test", sorted(TESTS), sorted(AFTER_TESTS));
+    }
+
+    /**
+     * Returns the number of rows run with the current sharding system properties.
+     *
+     * @param unroll the unroll annotation with the table
+     * @return the number of table rows of the current shard
+     */
+    static int rowsInCurrentShard(final Unroll unroll) {
+        final Sharding sharding = Sharding.fromSystemProperties();
+        int rows = 0;
+        for (final TableRow row : Table.parse(unroll.value())) {
+            if (sharding.test(row)) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    static List<String> sorted(final List<String> list) {
+        final List<String> sorted = new ArrayList<>(list);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    @Before
+    public void beforeEach() {
+        BEFORE_TESTS.add(testKey());
+    }
+
+    @After
+    public void afterEach() {
+        AFTER_TESTS.add(testKey());
+    }
+
+    private String testKey() {
+        return testName.getMethodName() + ":" + name;
+    }
+
+    private void recordInvocation() {
+        INSTANCES.add(this);
+        assertEquals("before method should run before test", testKey(), BEFORE_TESTS.get(BEFORE_TESTS.size() - 1));
+        TESTS.add(testKey());
+    }
+
+    @Test
+    public void testName() {
+        recordInvocation();
+        assertEquals("Name should have 5 characters", 5, name.length());
+    }
+
+    @Test
+    public void testAge() {
+        recordInvocation();
+        assertEquals("Age should be positive", true, age > 0);
+    }
+}
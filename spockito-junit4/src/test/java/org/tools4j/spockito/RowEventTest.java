@@ -0,0 +1,235 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.tools4j.spockito.table.RecordingRowListener;
+import org.tools4j.spockito.table.RowEvent;
+import org.tools4j.spockito.table.RowListener;
+import org.tools4j.spockito.table.RowListeners;
+import org.tools4j.spockito.table.SpockitoValueConverter;
+import org.tools4j.spockito.table.ValueConverter;
+
+import java.lang.reflect.Type;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests row events published to a {@link RecordingRowListener} registered for the duration of a test.
+ */
+public class RowEventTest {
+
+    private static final long SLEEP_MILLIS = 20;
+    private static final long SLEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(SLEEP_MILLIS);
+
+    @RunWith(Spockito.class)
+    @Spockito.Unroll({
+            "| Name  | Age |",
+            "| Henry |  42 |",
+            "| Jessy |  -1 |",
+            "| Nina  |   3 |"
+    })
+    public static class ClassRows {
+        //only fails or aborts rows when run by classRowEvents()
+        static volatile boolean checkOutcomes;
+        private final String name;
+        private final int age;
+
+        public ClassRows(final String name, final int age) throws InterruptedException {
+            this.name = name;
+            this.age = age;
+            //test instance creation is setup and not conversion time
+            Thread.sleep(SLEEP_MILLIS);
+        }
+
+        @Test
+        public void checkAge() throws InterruptedException {
+            Thread.sleep(SLEEP_MILLIS);
+            Assert.assertTrue(name + " should not have a negative age", age >= 0 || !checkOutcomes);
+            Assume.assumeTrue(name + " should be at least 10", age >= 10 || !checkOutcomes);
+        }
+    }
+
+    public static class SlowStringConverter implements ValueConverter {
+        @Override
+        public <T> T convert(final Class<T> type, final Type genericType, final String value) {
+            if (type == String.class) {
+                try {
+                    Thread.sleep(SLEEP_MILLIS);
+                } catch (final InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return SpockitoValueConverter.DEFAULT_INSTANCE.convert(type, genericType, value);
+        }
+    }
+
+    @RunWith(Spockito.class)
+    public static class MethodRowsWithTimeout {
+        @Before
+        public void sleep() throws InterruptedException {
+            Thread.sleep(SLEEP_MILLIS);
+        }
+
+        @Test(timeout = 10000)
+        @Spockito.UseValueConverter(SlowStringConverter.class)
+        @Spockito.Unroll({
+                "| Object   | Vertices |",
+                "| Triangle |     3    |",
+                "| Square   |     4    |"
+        })
+        public void checkVertices(final String object, final int vertices) throws InterruptedException {
+            Thread.sleep(SLEEP_MILLIS);
+            Assert.assertTrue(object + " should have at least 3 vertices", vertices >= 3);
+        }
+    }
+
+    @RunWith(Spockito.class)
+    @Spockito.Concurrent(threads = 2)
+    public static class ConcurrentMethodRows {
+        @Test
+        @Spockito.Unroll({
+                "| Object   | Vertices |",
+                "| Triangle |     3    |",
+                "| Square   |     4    |",
+                "| Pentagon |     5    |",
+                "| Hexagon  |     6    |"
+        })
+        public void checkVertices(final String object, final int vertices) {
+            Assert.assertTrue(object + " should have at least 3 vertices", vertices >= 3);
+        }
+    }
+
+    @Test
+    public void listenerRegisteredForTest() {
+        final RowListener defaultListener = RowListeners.listener();
+        try (final RecordingRowListener listener = RecordingRowListener.register()) {
+            assertTrue("Row listeners should be enabled", RowListeners.isEnabled());
+            assertSame("Registered listener", listener, RowListeners.listener());
+        }
+        assertSame("Default listener should be restored", defaultListener, RowListeners.listener());
+    }
+
+    @Test
+    public void classRowEvents() {
+        final Result result;
+        final List<RowEvent> events;
+        ClassRows.checkOutcomes = true;
+        try (final RecordingRowListener listener = RecordingRowListener.register()) {
+            result = JUnitCore.runClasses(ClassRows.class);
+            events = listener.events(ClassRows.class.getName());
+        } finally {
+            ClassRows.checkOutcomes = false;
+        }
+        assertEquals("Failure count", 1, result.getFailureCount());
+        assertEquals("Assumption failure count", 1, result.getAssumptionFailureCount());
+
+        assertEquals("Number of events", 3, events.size());
+        assertEquals("Outcome[0]", RowEvent.Outcome.SUCCESSFUL, events.get(0).outcome());
+        assertEquals("Outcome[1]", RowEvent.Outcome.FAILED, events.get(1).outcome());
+        assertEquals("Outcome[2]", RowEvent.Outcome.ABORTED, events.get(2).outcome());
+        assertNull("Failure[0]", events.get(0).failureOrNull());
+        assertTrue("Failure[1]", events.get(1).failureOrNull() instanceof AssertionError);
+        assertNotNull("Failure[2]", events.get(2).failureOrNull());
+        for (int row = 0; row < events.size(); row++) {
+            final RowEvent event = events.get(row);
+            assertEquals("Row index", row, event.rowIndex());
+            assertEquals("Test name", "checkAge", event.testName());
+            assertEquals("Key column count", 2, event.keyValues().size());
+            assertTrue("Conversion should exclude test instance creation: " + event,
+                    event.conversionNanos() < SLEEP_NANOS);
+            assertTrue("Setup should include test instance creation: " + event, event.setupNanos() >= SLEEP_NANOS);
+            assertTrue("Test should include test method: " + event, event.testNanos() >= SLEEP_NANOS);
+        }
+        assertEquals("Key value", "Jessy", events.get(1).keyValues().get("Name"));
+    }
+
+    @Test
+    public void methodRowEventsWithTimeout() {
+        final Result result;
+        final List<RowEvent> events;
+        try (final RecordingRowListener listener = RecordingRowListener.register()) {
+            result = JUnitCore.runClasses(MethodRowsWithTimeout.class);
+            events = listener.events(MethodRowsWithTimeout.class.getName() + "#checkVertices");
+        }
+        assertEquals("Failure count", 0, result.getFailureCount());
+
+        assertEquals("Number of events", 2, events.size());
+        for (int row = 0; row < events.size(); row++) {
+            final RowEvent event = events.get(row);
+            assertEquals("Row index", row, event.rowIndex());
+            assertEquals("Outcome", RowEvent.Outcome.SUCCESSFUL, event.outcome());
+            //method arguments are converted by the timeout thread
+            assertTrue("Conversion of method arguments should be timed: " + event,
+                    event.conversionNanos() >= SLEEP_NANOS);
+            assertTrue("Setup should include before methods: " + event, event.setupNanos() >= SLEEP_NANOS);
+            assertTrue("Test should include test method: " + event, event.testNanos() >= SLEEP_NANOS);
+        }
+        assertEquals("Key value", "Square", events.get(1).keyValues().get("Object"));
+    }
+
+    @Test
+    public void concurrentMethodRowEvents() {
+        final Result result;
+        final List<RowEvent> events;
+        try (final RecordingRowListener listener = RecordingRowListener.register()) {
+            result = JUnitCore.runClasses(ConcurrentMethodRows.class);
+            events = listener.events(ConcurrentMethodRows.class.getName() + "#checkVertices");
+        }
+        assertEquals("Failure count", 0, result.getFailureCount());
+
+        assertEquals("Number of events", 4, events.size());
+        for (int row = 0; row < events.size(); row++) {
+            final RowEvent event = events.get(row);
+            assertEquals("Row index", row, event.rowIndex());
+            assertEquals("Outcome", RowEvent.Outcome.SUCCESSFUL, event.outcome());
+            assertTrue("Conversion of method arguments should be timed: " + event, event.conversionNanos() > 0);
+        }
+    }
+
+    @Test
+    public void listenerFailureDoesNotChangeTestOutcome() {
+        final Result result;
+        final List<RowEvent> events;
+        try (final RecordingRowListener listener = RecordingRowListener.registerFailing()) {
+            result = JUnitCore.runClasses(ClassRows.class);
+            events = listener.events(ClassRows.class.getName());
+        }
+        assertTrue("Tests should be successful despite listener failures", result.wasSuccessful());
+        assertEquals("Number of events", 3, events.size());
+    }
+}
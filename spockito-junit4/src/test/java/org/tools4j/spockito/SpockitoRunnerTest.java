@@ -0,0 +1,261 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito;
+
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.tools4j.spockito.table.Sharding;
+import org.tools4j.spockito.table.SpockitoValueConverter;
+import org.tools4j.spockito.table.Table;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SpockitoRunnerTest {
+
+    @Test
+    public void renderNameTemplates() {
+        //given
+        final Table table = Table.parse(new String[] {
+                "| Name  | Price  | Path      |",
+                "| Henry | $12.50 | C:\\temp  |",
+                "| Jessy | $0.99  | {Name}    |"
+        });
+
+        //when + then
+        assertEquals("[0]: Henry", Spockito.getName(null, table.getRow(0), "[{row}]: {0}"));
+        assertEquals("Jessy costs $0.99 at {Name}", Spockito.getName(null, table.getRow(1), "{Name} costs {1} at {Path}"));
+        assertEquals("C:\\temp{3}{Unknown}{", Spockito.getName(null, table.getRow(0), "{2}{3}{Unknown}{"));
+        assertEquals("no placeholders", Spockito.getName(null, table.getRow(0), "no placeholders"));
+    }
+
+    @Test
+    public void filterSingleTestMethod() throws Exception {
+        //given
+        final Spockito runner = new Spockito(UnrollClassDataToConstructorTest.class);
+        final Description expected = runner.getDescription().getChildren().get(1).getChildren().get(0);
+        final Set<Description> runnerDescriptions = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<String> testMethods = new HashSet<>();
+        for (final Description row : runner.getDescription().getChildren()) {
+            runnerDescriptions.addAll(row.getChildren());
+            row.getChildren().forEach(test -> testMethods.add(test.getMethodName()));
+        }
+        final AtomicInteger relaxedEvaluations = new AtomicInteger();
+        final Filter methodFilter = Filter.matchMethodDescription(expected);
+        final Filter countingFilter = new Filter() {
+            @Override
+            public boolean shouldRun(final Description description) {
+                if (description.isTest() && !runnerDescriptions.contains(description)) {
+                    relaxedEvaluations.incrementAndGet();
+                }
+                return methodFilter.shouldRun(description);
+            }
+
+            @Override
+            public String describe() {
+                return methodFilter.describe();
+            }
+        };
+
+        //when
+        runner.filter(countingFilter);
+
+        //then
+        final List<Description> rows = runner.getDescription().getChildren();
+        assertEquals("rows", 1, rows.size());
+        assertTrue("filtered row should contain " + expected, rows.get(0).getChildren().contains(expected));
+        assertTrue("relaxed descriptions should be evaluated at most once per test method: " + relaxedEvaluations,
+                relaxedEvaluations.get() >= 1 && relaxedEvaluations.get() <= testMethods.size());
+    }
+
+    @Test
+    public void reuseBindingPlans() {
+        //given
+        final Constructor<?> constructor = UnrollClassDataToConstructorTest.class.getConstructors()[0];
+        final String[] tableData = UnrollClassDataToConstructorTest.class.getAnnotation(Spockito.Unroll.class).value();
+        final Table table1 = Table.parse(tableData);
+        final Table table2 = Table.parse(tableData);
+
+        //when
+        final BindingPlan plan1 = BindingPlan.forExecutable(constructor, table1, new SpockitoValueConverter());
+        final BindingPlan plan2 = BindingPlan.forExecutable(constructor, table2, new SpockitoValueConverter());
+        final Object[] values = plan2.convert(table2.getRow(1));
+
+        //then
+        assertSame("plan for same constructor and table layout", plan1, plan2);
+        assertEquals("values.length", constructor.getParameterCount(), values.length);
+        assertEquals("values[0]", Operation.Subtract, values[0]);
+    }
+
+    @Test
+    public void lazyRowDescriptionsMatchRunnerDescriptions() throws Exception {
+        for (final Class<?> testClass : new Class<?>[] {UnrollClassDataToConstructorTest.class, UnrollClassDataToMethodTest.class}) {
+            //given
+            final Table table = Table.parse(testClass.getAnnotation(Spockito.Unroll.class).value());
+
+            //when
+            final List<Description> rowDescriptions = new Spockito(testClass).getDescription().getChildren();
+
+            //then
+            assertEquals("row count", table.getRowCount(), rowDescriptions.size());
+            for (int row = 0; row < table.getRowCount(); row++) {
+                final Description expected = new SingleRowMultiTestRunner(testClass, table.getRow(row),
+                        SpockitoValueConverter.DEFAULT_INSTANCE).getDescription();
+                assertEquals("description[" + row + "]", expected, rowDescriptions.get(row));
+                assertEquals("description[" + row + "].children", expected.getChildren(), rowDescriptions.get(row).getChildren());
+            }
+        }
+    }
+
+    @Test
+    public void shardRows() throws Exception {
+        final Map<String, String> shardProperties = clearShardProperties();
+        try {
+            for (final Class<?> testClass : new Class<?>[] {UnrollClassDataToConstructorTest.class, UnrollMethodDataTest.class}) {
+                //given
+                final List<Description> allTests = tests(new Spockito(testClass).getDescription());
+                final Map<Description, Integer> shardsPerTest = new HashMap<>();
+                final int shardCount = 3;
+
+                //when
+                System.setProperty(Sharding.SHARD_COUNT_PROPERTY, String.valueOf(shardCount));
+                for (int index = 0; index < shardCount; index++) {
+                    System.setProperty(Sharding.SHARD_INDEX_PROPERTY, String.valueOf(index));
+                    for (final Description test : tests(new Spockito(testClass).getDescription())) {
+                        shardsPerTest.merge(test, 1, Integer::sum);
+                    }
+                }
+                clearShardProperties();
+
+                //then
+                assertEquals(testClass.getSimpleName() + ": tests of all shards", new HashSet<>(allTests), shardsPerTest.keySet());
+                for (final Description test : allTests) {
+                    assertEquals(test + ": shards", 1, (int)shardsPerTest.get(test));
+                }
+            }
+        } finally {
+            restoreProperties(shardProperties);
+        }
+    }
+
+    private static Map<String, String> clearShardProperties() {
+        final Map<String, String> properties = new HashMap<>();
+        for (final String name : new String[] {Sharding.SHARD_INDEX_PROPERTY, Sharding.SHARD_COUNT_PROPERTY, Sharding.SHARD_BY_PROPERTY}) {
+            properties.put(name, System.clearProperty(name));
+        }
+        return properties;
+    }
+
+    private static void restoreProperties(final Map<String, String> properties) {
+        properties.forEach((name, value) -> {
+            if (value == null) {
+                System.clearProperty(name);
+            } else {
+                System.setProperty(name, value);
+            }
+        });
+    }
+
+    private static List<Description> tests(final Description description) {
+        final List<Description> tests = new ArrayList<>();
+        for (final Description child : description.getChildren()) {
+            if (child.isTest()) {
+                tests.add(child);
+            } else {
+                tests.addAll(tests(child));
+            }
+        }
+        return tests;
+    }
+
+    @Test
+    public void groupRows() throws Exception {
+        //given
+        final Spockito classLevel = new Spockito(UnrollClassDataGroupTest.class);
+        final Spockito methodLevel = new Spockito(UnrollMethodDataGroupTest.class);
+
+        //when
+        final List<Description> rowGroups = classLevel.getDescription().getChildren();
+        final List<Description> methods = methodLevel.getDescription().getChildren();
+
+        //then
+        assertEquals("row group names", Arrays.asList(
+                "UnrollClassDataGroupTest rows 0-1", "UnrollClassDataGroupTest rows 2-3",
+                "UnrollClassDataGroupTest rows 4-4"), displayNames(rowGroups));
+        assertEquals("rows in last group", 1, rowGroups.get(2).getChildren().size());
+        assertEquals("method names", Arrays.asList("testUnrollAngularSums", "testUnrollCities"), displayNames(methods));
+        assertEquals("angular sum groups", Arrays.asList(
+                "testUnrollAngularSums rows 0-1", "testUnrollAngularSums rows 2-2"),
+                displayNames(methods.get(0).getChildren()));
+        assertEquals("city groups", Arrays.asList(
+                "testUnrollCities Country=CH", "testUnrollCities Country=DE", "testUnrollCities Country=FR"),
+                displayNames(methods.get(1).getChildren()));
+        assertEquals("cities in CH", Arrays.asList(
+                "testUnrollCities[0]: Zurich(" + UnrollMethodDataGroupTest.class.getName() + ")",
+                "testUnrollCities[2]: Geneva(" + UnrollMethodDataGroupTest.class.getName() + ")"),
+                displayNames(methods.get(1).getChildren().get(0).getChildren()));
+    }
+
+    @Test
+    public void filterGroupedRows() throws Exception {
+        //given
+        final Spockito runner = new Spockito(UnrollMethodDataGroupTest.class);
+        final Description geneva = tests(runner.getDescription()).stream()
+                .filter(test -> test.getMethodName().endsWith("Geneva"))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+
+        //when
+        runner.filter(Filter.matchMethodDescription(geneva));
+
+        //then
+        final List<Description> methods = runner.getDescription().getChildren();
+        assertEquals("remaining methods", Collections.singletonList("testUnrollCities"), displayNames(methods));
+        assertEquals("remaining groups", Collections.singletonList("testUnrollCities Country=CH"),
+                displayNames(methods.get(0).getChildren()));
+        assertTrue("remaining tests should contain " + geneva, tests(runner.getDescription()).contains(geneva));
+    }
+
+    private static List<String> displayNames(final List<Description> descriptions) {
+        final List<String> names = new ArrayList<>(descriptions.size());
+        for (final Description description : descriptions) {
+            names.add(description.getDisplayName());
+        }
+        return names;
+    }
+}
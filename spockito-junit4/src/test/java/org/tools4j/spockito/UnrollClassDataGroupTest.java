@@ -0,0 +1,52 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.tools4j.spockito.Spockito.Unroll;
+
+@Unroll({
+        "| Operation | Sign | Operand1 | Operand2 | Result |",
+        "|-----------|------|----------|----------|--------|",
+        "| Add       |   +  |        4 |        7 |     11 |",
+        "| Subtract  |   -  |      111 |       12 |     99 |",
+        "| Multiply  |   *  |       24 |        5 |    120 |",
+        "| Divide    |   /  |       24 |        3 |      8 |",
+        "| Add       |   +  |       -3 |        3 |      0 |"
+})
+@Spockito.Group(size = 2)
+@RunWith(Spockito.class)
+public class UnrollClassDataGroupTest {
+
+    @Test
+    @Spockito.Name("[{row}]: {Operand1} {Sign} {Operand2} = {Result}")
+    public void testOperation(@Spockito.Ref("Operation") final Operation operation,
+                              @Spockito.Ref("Operand1") final int operand1,
+                              @Spockito.Ref("Operand2") final int operand2,
+                              @Spockito.Ref("Result") final int result) {
+        Assert.assertEquals("Result is wrong!", result, operation.evaluate(operand1, operand2));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.tools4j.spockito.Spockito.Unroll;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+@Unroll({
+        "| Name  | Scores  |",
+        "|-------|---------|",
+        "| Henry | 1, 2, 3 |",
+        "| Jessy | 4, 5    |"
+})
+@Spockito.ShareValues
+@RunWith(Spockito.class)
+public class UnrollClassDataShareValuesTest {
+
+    private static final Map<List<Integer>, Integer> SCORE_INSTANCES = new IdentityHashMap<>();
+
+    private final String name;
+    private final List<Integer> scores;
+
+    public UnrollClassDataShareValuesTest(final String name, final List<Integer> scores) {
+        this.name = name;
+        this.scores = scores;
+    }
+
+    @AfterClass
+    public static void assertValuesShared() {
+        assertEquals("one score list instance per row", 2, SCORE_INSTANCES.size());
+        for (final int uses : SCORE_INSTANCES.values()) {
+            assertEquals("score list instance used by both test methods", 2, uses);
+        }
+    }
+
+    private void recordScores() {
+        synchronized (SCORE_INSTANCES) {
+            SCORE_INSTANCES.merge(scores, 1, Integer::sum);
+        }
+    }
+
+    @Test
+    public void testName() {
+        recordScores();
+        Assert.assertEquals("Name should have 5 characters", 5, name.length());
+    }
+
+    @Test
+    public void testScores() {
+        recordScores();
+        Assert.assertTrue("Scores should not be empty", !scores.isEmpty());
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@Spockito.Group(size = 2)
+@RunWith(Spockito.class)
+public class UnrollMethodDataGroupTest {
+
+    @Test
+    @Spockito.Unroll({
+            "| Object   | Vertices | Angle sum |",
+            "|==========|==========|===========|",
+            "| Triangle |     3    |    180    |",
+            "| Square   |     4    |    360    |",
+            "| Pentagon |     5    |    540    |",
+            "|----------|----------|-----------|",
+    })
+    @Spockito.Name("[{Object}]: ({Vertices}-2)*180 = {Angle sum}")
+    public void testUnrollAngularSums(@Spockito.Ref("Vertices") int n,
+                                      @Spockito.Ref("Angle sum") int degrees,
+                                      @Spockito.Ref("Object") String name) {
+        Assert.assertEquals("Angular sum is wrong for: " + name, degrees, (n-2)*180);
+    }
+
+    @Test
+    @Spockito.Unroll({
+            "| Country | City   | Population |",
+            "|---------|--------|------------|",
+            "| CH      | Zurich |   421878   |",
+            "| DE      | Berlin |  3644826   |",
+            "| CH      | Geneva |   201818   |",
+            "| FR      | Paris  |  2148271   |"
+    })
+    @Spockito.Group(column = "Country")
+    @Spockito.Name("[{row}]: {City}")
+    public void testUnrollCities(final String country, final String city, final int population) {
+        Assert.assertEquals("Country code should have 2 characters", 2, country.length());
+        Assert.assertTrue("Population of " + city + " should be positive", population > 0);
+    }
+}
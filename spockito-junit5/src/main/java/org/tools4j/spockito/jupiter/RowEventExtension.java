@@ -0,0 +1,183 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.jupiter;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.opentest4j.TestAbortedException;
+import org.tools4j.spockito.table.RowEvent;
+import org.tools4j.spockito.table.RowListeners;
+import org.tools4j.spockito.table.TableRow;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Extension registered via {@link TableSource @TableSource} publishing a {@link RowEvent} to the {@link RowListeners}
+ * after every test invocation with the values of a table row.  The table row and its conversion time are recorded by
+ * {@link TableArgumentsProvider} when the arguments for the invocation are provided.  Events are only collected if
+ * {@linkplain RowListeners#isEnabled() row listeners} are registered.
+ */
+final class RowEventExtension implements BeforeEachCallback, BeforeTestExecutionCallback,
+        AfterTestExecutionCallback, AfterEachCallback {
+
+    private static final Namespace NAMESPACE = Namespace.create(RowEventExtension.class);
+    private static final String INVOCATION_PREFIX = "#";
+
+    /**
+     * Records table rows and conversion times of the arguments provided for the invocations of a test method.  The
+     * methods to record rows are invoked by the thread consuming the arguments stream.
+     */
+    static final class RowRecorder {
+        private final String tableId;
+        private final Map<Integer, RecordedRow> rowsByInvocation = new ConcurrentHashMap<>();
+        private final AtomicInteger invocations = new AtomicInteger();
+        private TableRow row;
+        private long conversionStartNanos;
+
+        RowRecorder(final String tableId) {
+            this.tableId = tableId;
+        }
+
+        /**
+         * Invoked before the arguments for the given row are converted.
+         *
+         * @param row the table row whose values are about to be converted
+         * @return true to use as stream filter
+         */
+        boolean converting(final TableRow row) {
+            this.row = row;
+            this.conversionStartNanos = System.nanoTime();
+            return true;
+        }
+
+        /**
+         * Invoked when the arguments for the row passed to {@link #converting(TableRow)} have been converted.
+         *
+         * @param args the converted arguments
+         */
+        void converted(final Object[] args) {
+            final long conversionNanos = System.nanoTime() - conversionStartNanos;
+            rowsByInvocation.put(invocations.incrementAndGet(), new RecordedRow(row, conversionNanos));
+        }
+    }
+
+    private static final class RecordedRow {
+        final TableRow row;
+        final long conversionNanos;
+
+        RecordedRow(final TableRow row, final long conversionNanos) {
+            this.row = row;
+            this.conversionNanos = conversionNanos;
+        }
+    }
+
+    private static final class Timings {
+        final long setupStartNanos = System.nanoTime();
+        long testStartNanos = -1;
+        long testEndNanos = -1;
+    }
+
+    /**
+     * Returns the row recorder for the test method of the given context.
+     *
+     * @param methodContext the extension context of the test method
+     * @return the row recorder for the test method
+     */
+    static RowRecorder rowRecorder(final ExtensionContext methodContext) {
+        final String tableId = methodContext.getRequiredTestClass().getName() + "#" +
+                methodContext.getRequiredTestMethod().getName();
+        return methodContext.getStore(NAMESPACE).getOrComputeIfAbsent(RowRecorder.class,
+                key -> new RowRecorder(tableId), RowRecorder.class);
+    }
+
+    private static RowRecorder rowRecorderOrNull(final ExtensionContext invocationContext) {
+        return invocationContext.getParent()
+                .map(methodContext -> methodContext.getStore(NAMESPACE).get(RowRecorder.class, RowRecorder.class))
+                .orElse(null);
+    }
+
+    @Override
+    public void beforeEach(final ExtensionContext context) {
+        if (RowListeners.isEnabled() && rowRecorderOrNull(context) != null) {
+            context.getStore(NAMESPACE).put(Timings.class, new Timings());
+        }
+    }
+
+    @Override
+    public void beforeTestExecution(final ExtensionContext context) {
+        final Timings timings = context.getStore(NAMESPACE).get(Timings.class, Timings.class);
+        if (timings != null) {
+            timings.testStartNanos = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterTestExecution(final ExtensionContext context) {
+        final Timings timings = context.getStore(NAMESPACE).get(Timings.class, Timings.class);
+        if (timings != null) {
+            timings.testEndNanos = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterEach(final ExtensionContext context) {
+        final Timings timings = context.getStore(NAMESPACE).remove(Timings.class, Timings.class);
+        final RowRecorder recorder = timings == null ? null : rowRecorderOrNull(context);
+        final int invocation = invocationIndex(context.getUniqueId());
+        final RecordedRow recorded = recorder == null || invocation < 0 ? null :
+                recorder.rowsByInvocation.remove(invocation);
+        if (recorded == null) {
+            return;
+        }
+        final long endNanos = System.nanoTime();
+        final long testStart = timings.testStartNanos < 0 ? endNanos : timings.testStartNanos;
+        final long testEnd = timings.testEndNanos < 0 ? endNanos : timings.testEndNanos;
+        final Throwable failure = context.getExecutionException().orElse(null);
+        final RowEvent.Outcome outcome = failure == null ? RowEvent.Outcome.SUCCESSFUL :
+                failure instanceof TestAbortedException ? RowEvent.Outcome.ABORTED : RowEvent.Outcome.FAILED;
+        RowListeners.publish(new RowEvent(recorder.tableId, context.getDisplayName(), recorded.row.getRowIndex(),
+                RowListeners.keyValues(recorded.row), outcome, failure, recorded.conversionNanos,
+                testStart - timings.setupStartNanos, testEnd - testStart));
+    }
+
+    private static int invocationIndex(final String uniqueId) {
+        //unique id of invocation ends with segment such as [test-template-invocation:#3]
+        final int start = uniqueId.lastIndexOf(INVOCATION_PREFIX);
+        final int end = uniqueId.lastIndexOf(']');
+        if (start < 0 || end < start) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(uniqueId.substring(start + INVOCATION_PREFIX.length(), end));
+        } catch (final NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.jupiter;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.tools4j.spockito.table.InjectionContext;
+import org.tools4j.spockito.table.InjectionContext.Phase;
+import org.tools4j.spockito.table.Sharding;
+import org.tools4j.spockito.table.Table;
+
+import java.lang.reflect.Method;
+import java.util.stream.IntStream;
+
+/**
+ * Condition registered via {@link TableSource @TableSource} disabling a test method if none of its table rows belongs
+ * to the current {@linkplain Sharding shard}.  Without this condition the test method would fail as parameterized tests
+ * require at least one set of arguments.
+ */
+final class ShardCondition implements ExecutionCondition {
+
+    private static final Namespace NAMESPACE = Namespace.create(ShardCondition.class);
+    private static final ConditionEvaluationResult NOT_SHARDED = ConditionEvaluationResult.enabled("Not sharded");
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(final ExtensionContext context) {
+        final Method testMethod = context.getTestMethod().orElse(null);
+        if (testMethod == null || testMethod.getAnnotation(TableSource.class) == null) {
+            return NOT_SHARDED;
+        }
+        final Sharding sharding = Sharding.fromSystemProperties();
+        if (!sharding.isSharded()) {
+            return NOT_SHARDED;
+        }
+        //evaluated once per method, invocation contexts find the result in the store of the method context
+        return context.getStore(NAMESPACE).getOrComputeIfAbsent(testMethod,
+                method -> evaluate(testMethod, sharding), ConditionEvaluationResult.class);
+    }
+
+    private static ConditionEvaluationResult evaluate(final Method testMethod, final Sharding sharding) {
+        final InjectionContext injectionContext = InjectionContext.create(Phase.TEST, testMethod);
+        final Table table = TableSourceDataProvider.DEFAULT_INSTANCE.provideTable(injectionContext);
+        final long rows = IntStream.range(0, table.getRowCount())
+                .filter(row -> sharding.test(table.getRow(row)))
+                .count();
+        return rows > 0 ?
+                ConditionEvaluationResult.enabled(rows + " table rows in " + sharding) :
+                ConditionEvaluationResult.disabled("No table rows in " + sharding);
+    }
+}
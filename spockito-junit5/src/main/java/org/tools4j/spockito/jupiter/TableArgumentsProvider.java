@@ -26,17 +26,24 @@ package org.tools4j.spockito.jupiter;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.tools4j.spockito.jupiter.RowEventExtension.RowRecorder;
+import org.tools4j.spockito.table.Batch;
 import org.tools4j.spockito.table.InjectionContext;
 import org.tools4j.spockito.table.InjectionContext.Phase;
+import org.tools4j.spockito.table.RowListeners;
+import org.tools4j.spockito.table.Sharding;
 import org.tools4j.spockito.table.SpockitoException;
 import org.tools4j.spockito.table.Table;
 import org.tools4j.spockito.table.TableData;
 import org.tools4j.spockito.table.TableDataProvider;
+import org.tools4j.spockito.table.TableRow;
 
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+import static org.tools4j.spockito.table.SpockitoAnnotations.annotationDirectOrMeta;
+
 /**
  * Provides arguments defined by {@link TableData} using {@link Table}.
  */
@@ -51,11 +58,16 @@ final class TableArgumentsProvider implements ArgumentsProvider {
             //should not happen as it should always be applicable for TEST phase
             throw new SpockitoException("Not applicable: " + tableDataProvider);
         }
-        final Object data = tableDataProvider.provideData(injectionContext);
-        if (data instanceof Object[][]) {
-            return Arrays.stream((Object[][])data).map(Arguments::of);
-        }
-        throw new SpockitoException("Table data provider " + tableDataProvider + " should return value of type Object[][], but found " + data);
+        final Sharding sharding = Sharding.fromSystemProperties();
+        final RowRecorder recorder = RowListeners.isEnabled() && annotationDirectOrMeta(testMethod, Batch.class) == null ?
+                RowEventExtension.rowRecorder(context) : null;
+        //rows are converted lazily when consumed by the test framework, rows of other shards are skipped before conversion
+        final Predicate<TableRow> rowFilter = recorder == null ? sharding :
+                row -> sharding.test(row) && recorder.converting(row);
+        final Stream<Object[]> rows = tableDataProvider.provideRowStream(injectionContext,
+                tableDataProvider.provideTable(injectionContext),
+                tableDataProvider.provideValueConverter(injectionContext), rowFilter);
+        return (recorder == null ? rows : rows.peek(recorder::converted)).map(Arguments::of);
     }
 
 }
\ No newline at end of file
@@ -102,7 +102,7 @@ enum TableRowConverters {
         requireNonNull(joinedOn);
         final Data data = annotationDirectOrMeta(parameter, Data.class);
         try {
-            final DataProvider dataProvider = data.value().newInstance();
+            final DataProvider dataProvider = DataProvider.create(data.value());
             if (dataProvider instanceof TableDataProvider) {
                 final TableDataProvider tableDataProvider = (TableDataProvider)dataProvider;
                 final InjectionContext ctxt = InjectionContext.create(Phase.INIT, parameter);
@@ -23,8 +23,10 @@
  */
 package org.tools4j.spockito.jupiter;
 
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.tools4j.spockito.table.Data;
+import org.tools4j.spockito.table.DataScope;
 import org.tools4j.spockito.table.SpockitoValueConverter;
 import org.tools4j.spockito.table.ValueConverter;
 
@@ -55,6 +57,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 @Retention(RUNTIME)
 @Documented
 @ArgumentsSource(TableArgumentsProvider.class)
+@ExtendWith({RowEventExtension.class, ShardCondition.class})
 @Data(TableSourceDataProvider.class)
 public @interface TableSource {
     /**
@@ -82,4 +85,13 @@ public @interface TableSource {
      * @see SpockitoValueConverter
      */
     Class<? extends ValueConverter> valueConverter() default SpockitoValueConverter.class;
+
+    /**
+     * Scope of the converted data if used to inject fields;  with scope {@link DataScope#CLASS CLASS} or
+     * {@link DataScope#JVM JVM}, data is converted only once and shared as unmodifiable view, for instance by all
+     * instances of a test class.
+     *
+     * @return the data scope, {@link DataScope#INSTANCE INSTANCE} by default
+     */
+    DataScope scope() default DataScope.INSTANCE;
 }
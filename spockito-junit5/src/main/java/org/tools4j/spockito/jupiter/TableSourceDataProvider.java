@@ -24,6 +24,8 @@
 package org.tools4j.spockito.jupiter;
 
 import org.junit.platform.commons.annotation.Testable;
+import org.tools4j.spockito.table.DataProvider;
+import org.tools4j.spockito.table.DataScope;
 import org.tools4j.spockito.table.InjectionContext;
 import org.tools4j.spockito.table.InjectionContext.Phase;
 import org.tools4j.spockito.table.Table;
@@ -43,12 +45,13 @@ import static org.tools4j.spockito.table.SpockitoAnnotations.annotationDirectOrM
  * <p>The implementation is based on {@link TableDataProvider} but annotated {@linkplain Testable testable} methods are
  * not invoked.  The test framework invokes testable methods using {@link TableArgumentsProvider}.
  */
+@DataProvider.Stateless
 public class TableSourceDataProvider extends TableDataProvider {
 
     public static final TableSourceDataProvider DEFAULT_INSTANCE = new TableSourceDataProvider();
 
     public TableSourceDataProvider() {
-        super(TableSourceDataProvider::table, TableSourceDataProvider::valueConverter);
+        super(TableSourceDataProvider::table, TableSourceDataProvider::valueConverter, TableSourceDataProvider::dataScope);
     }
 
     private static Table table(final InjectionContext injectionContext) {
@@ -61,6 +64,11 @@ public class TableSourceDataProvider extends TableDataProvider {
         return tableSource.valueConverter();
     }
 
+    private static DataScope dataScope(final InjectionContext injectionContext) {
+        final TableSource tableSource = injectionContext.annotatedElement().getAnnotation(TableSource.class);
+        return tableSource.scope();
+    }
+
     @Override
     public boolean applicable(final InjectionContext context) {
         if (context.phase() == Phase.INIT) {
@@ -74,6 +82,12 @@ public class TableSourceDataProvider extends TableDataProvider {
         return true;
     }
 
+    @Override
+    public boolean isDataShareable(final InjectionContext context) {
+        //joined child tables depend on the parent table row
+        return annotationDirectOrMeta(context.annotatedElement(), JoinOn.class) == null;
+    }
+
     @Override
     protected TableRowConverter tableRowConverter(final InjectionContext context,
                                                   final Parameter parameter,
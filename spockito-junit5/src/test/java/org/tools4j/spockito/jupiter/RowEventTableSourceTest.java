@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.jupiter;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.tools4j.spockito.table.RecordingRowListener;
+import org.tools4j.spockito.table.RowEvent;
+import org.tools4j.spockito.table.RowListeners;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests row events published to a {@link RecordingRowListener} registered for the tests of this class.
+ */
+@TestMethodOrder(OrderAnnotation.class)
+public class RowEventTableSourceTest {
+
+    private static final long SLEEP_MILLIS = 20;
+    private static final long SLEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(SLEEP_MILLIS);
+
+    private static RecordingRowListener listener;
+
+    @BeforeAll
+    public static void registerListener() {
+        listener = RecordingRowListener.register();
+    }
+
+    @AfterAll
+    public static void closeListener() {
+        listener.close();
+    }
+
+    @BeforeEach
+    public void sleep() throws InterruptedException {
+        Thread.sleep(SLEEP_MILLIS);
+    }
+
+    @TableSource({
+            "| Name  | Age |",
+            "| Henry |  42 |",
+            "| Nina  |   3 |"
+    })
+    @ParameterizedTest(name = "[{index}] {0}")
+    @Order(1)
+    public void testAge(final String name, final int age) throws InterruptedException {
+        Thread.sleep(SLEEP_MILLIS);
+        Assumptions.assumeTrue(age >= 10, name + " should be at least 10");
+    }
+
+    @Test
+    @Order(2)
+    public void rowEventsPublished() {
+        //given
+        assertTrue(RowListeners.isEnabled(), "row listeners should be enabled");
+
+        //when
+        final List<RowEvent> events = listener.events(RowEventTableSourceTest.class.getName() + "#testAge");
+
+        //then
+        assertEquals(2, events.size(), "number of events");
+        assertEquals(RowEvent.Outcome.SUCCESSFUL, events.get(0).outcome(), "outcome[0]");
+        assertEquals(RowEvent.Outcome.ABORTED, events.get(1).outcome(), "outcome[1]");
+        assertNull(events.get(0).failureOrNull(), "failure[0]");
+        assertEquals("[1] Henry", events.get(0).testName(), "test name[0]");
+        assertEquals("Nina", events.get(1).keyValues().get("Name"), "key value[1]");
+        for (int row = 0; row < events.size(); row++) {
+            final RowEvent event = events.get(row);
+            assertEquals(row, event.rowIndex(), "row index");
+            assertTrue(event.conversionNanos() > 0, "conversion should be timed: " + event);
+            assertTrue(event.setupNanos() >= SLEEP_NANOS, "setup should include before each: " + event);
+            assertTrue(event.testNanos() >= SLEEP_NANOS, "test should include test method: " + event);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.jupiter;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.tools4j.spockito.table.Sharding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@TestMethodOrder(OrderAnnotation.class)
+public class ShardedTableSourceTest {
+
+    private static final String[] SHARD_PROPERTIES = {
+            Sharding.SHARD_INDEX_PROPERTY, Sharding.SHARD_COUNT_PROPERTY, Sharding.SHARD_BY_PROPERTY
+    };
+    private static final Map<String, String> savedProperties = new HashMap<>();
+    private static final List<String> invocations = new ArrayList<>();
+
+    @BeforeAll
+    public static void setShardProperties() {
+        for (final String name : SHARD_PROPERTIES) {
+            savedProperties.put(name, System.clearProperty(name));
+        }
+        //shard 1 of 3 by index contains rows 1, 4, 7, ...
+        System.setProperty(Sharding.SHARD_INDEX_PROPERTY, "1");
+        System.setProperty(Sharding.SHARD_COUNT_PROPERTY, "3");
+        System.setProperty(Sharding.SHARD_BY_PROPERTY, "index");
+    }
+
+    @AfterAll
+    public static void restoreShardProperties() {
+        savedProperties.forEach((name, value) -> {
+            if (value == null) {
+                System.clearProperty(name);
+            } else {
+                System.setProperty(name, value);
+            }
+        });
+    }
+
+    @TableSource({
+            "| Name  |",
+            "| Henry |"
+    })
+    @ParameterizedTest(name = "[{index}] {0}")
+    @Order(1)
+    public void testNoRowInShard(String name) {
+        invocations.add("noRowInShard:" + name);
+    }
+
+    @TableSource({
+            "| Name  |",
+            "| Henry |",
+            "| Jessy |",
+            "| Nina  |",
+            "| Gary  |"
+    })
+    @ParameterizedTest(name = "[{index}] {0}")
+    @Order(1)
+    public void testRowsInShard(String name) {
+        invocations.add("rowsInShard:" + name);
+    }
+
+    @Test
+    @Order(2)
+    public void onlyRowsOfShardInvoked() {
+        assertEquals(Arrays.asList("rowsInShard:Jessy"), invocations, "invocations");
+    }
+}
@@ -25,9 +25,14 @@ package org.tools4j.spockito.table;
 
 import org.tools4j.spockito.table.GenericTypes.ActualType;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
@@ -67,9 +72,15 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.Vector;
@@ -80,8 +91,8 @@ import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 import static org.tools4j.spockito.table.GenericTypes.actualTypeForTypeParam;
@@ -112,6 +123,7 @@ public final class Converters {
     public static final Function<? super String, OffsetDateTime> OFFSET_DATE_TIME_CONVERTER = OffsetDateTime::parse;
     public static final Function<? super String, ZonedDateTime> ZONED_DATE_TIME_CONVERTER = ZonedDateTime::parse;
     public static final Function<? super String, Instant> INSTANT_CONVERTER = Instant::parse;
+    private static final EnumNamePrefixConverter<Month> MONTH_NAME_CONVERTER = new EnumNamePrefixConverter<>(Month.class, 3, false);
     public static final Function<? super String, Month> MONTH_CONVERTER = s -> {
         //try numeric
         if (s.length() == 1 || s.length()== 2) {
@@ -128,11 +140,9 @@ public final class Converters {
         }
         //try by name (or prefix of name)
         if (s.length() >= 3) {
-            final String upper = s.toUpperCase();
-            for (final Month month : Month.values()) {
-                if (month.name().startsWith(upper)) {
-                    return month;
-                }
+            final Month month = MONTH_NAME_CONVERTER.valueOrNull(s);
+            if (month != null) {
+                return month;
             }
         }
         throw new IllegalArgumentException("Cannot convert string to Month: " + s);
@@ -186,63 +196,182 @@ public final class Converters {
         }
         throw new IllegalArgumentException("Cannot convert string to char: " + s);
     };
-    public static final ValueConverter CLASS_CONVERTER = new ValueConverter() {
+    public static final ValueConverter CLASS_CONVERTER = new ClassNameConverter(Converters.class.getClassLoader());
+    public static final ValueConverter ENUM_CONVERTER = new ValueConverter() {
         @Override
         public <T> T convert(final Class<T> type, final Type genericType, final String value) {
-            try {
-                final Class<?> clazz = Class.forName(value);
-                return type.cast(clazz);
-            } catch (final Exception e) {
-                throw new IllegalArgumentException("Cannot convert string to " + type.getName() + ": " + value, e);
+            final EnumNameTable<?> table = ENUM_NAME_TABLES.get(type);
+            final Enum<?> e = table.valueOrNull(value);
+            if (e == null) {
+                throw new IllegalArgumentException("No enum constant " + type.getName() + "." + value);
             }
+            return type.cast(e);
         }
     };
-    public static final ValueConverter ENUM_CONVERTER = new ValueConverter() {
+
+    /**
+     * Name tables for enum types used by {@link #ENUM_CONVERTER}, computed once per enum type.  The tables resolve the
+     * constant names and case-insensitive aliases unless they are ambiguous.
+     */
+    private static final ClassValue<EnumNameTable<?>> ENUM_NAME_TABLES = new ClassValue<EnumNameTable<?>>() {
         @Override
-        public <T> T convert(final Class<T> type, final Type genericType, final String value) {
-            final Enum<?> e = Enum.valueOf(type.asSubclass(Enum.class), value);
-            return type.cast(e);
+        protected EnumNameTable<?> computeValue(final Class<?> type) {
+            return enumNameTable(type);
+        }
+
+        private <E extends Enum<E>> EnumNameTable<E> enumNameTable(final Class<?> type) {
+            //safe as name tables are only requested by ENUM_CONVERTER for enum types
+            @SuppressWarnings("unchecked")
+            final Class<E> enumType = (Class<E>)type.asSubclass(Enum.class);
+            return new EnumNameTable<>(enumType, 0, false);
         }
     };
 
+    /**
+     * Hashed name table for the constants of an enum type.  Constant names are always resolved; optional aliases are
+     * names in upper case if case-insensitive and name prefixes with a minimum length.  Aliases that are ambiguous
+     * are not resolved.
+     *
+     * @param <E> the enum type
+     */
+    private static final class EnumNameTable<E extends Enum<E>> {
+        private final boolean caseSensitive;
+        private final Map<String, E> valuesByName;
+
+        EnumNameTable(final Class<E> enumType, final int prefixMinLength, final boolean caseSensitive) {
+            final E[] values = enumType.getEnumConstants();
+            final Map<String, E> valuesByName = new HashMap<>();
+            final Set<String> ambiguous = new HashSet<>();
+            for (final E value : values) {
+                valuesByName.put(value.name(), value);
+            }
+            for (final E value : values) {
+                final String name = caseSensitive ? value.name() : value.name().toUpperCase(Locale.ROOT);
+                final int minLength = prefixMinLength > 0 ? Math.min(prefixMinLength, name.length()) : name.length();
+                for (int len = minLength; len <= name.length(); len++) {
+                    final String alias = name.substring(0, len);
+                    if (!ambiguous.contains(alias)) {
+                        final E existing = valuesByName.putIfAbsent(alias, value);
+                        if (existing != null && existing != value && !existing.name().equals(alias)) {
+                            valuesByName.remove(alias);
+                            ambiguous.add(alias);
+                        }
+                    }
+                }
+            }
+            this.caseSensitive = caseSensitive;
+            this.valuesByName = valuesByName;
+        }
+
+        E valueOrNull(final String name) {
+            final E value = valuesByName.get(name);
+            return value != null || caseSensitive ? value : valuesByName.get(name.toUpperCase(Locale.ROOT));
+        }
+    }
+
     public static class EnumNamePrefixConverter<E extends Enum<E>> implements Function<String, E> {
         private final Class<E> enumType;
         private final int prefixMinLength;
-        private final boolean caseSensitive;
-        private final Map<String, E> valuesPyPrefix;
+        private final EnumNameTable<E> nameTable;
 
         public EnumNamePrefixConverter(final Class<E> enumType,
                                        final int prefixMinLength,
                                        final boolean caseSensitive) {
             this.enumType = requireNonNull(enumType);
             this.prefixMinLength = prefixMinLength;
-            this.caseSensitive = caseSensitive;
             final E[] values = enumType.getEnumConstants();
-            this.valuesPyPrefix = Arrays.stream(values).collect(Collectors.toMap(
-                    caseSensitive ?
-                            e -> e.name().substring(0, prefixMinLength) :
-                            e -> e.name().substring(0, prefixMinLength).toUpperCase(),
-                    Function.identity()
-            ));
-            if (valuesPyPrefix.size() != values.length) {
+            final long prefixCount = Arrays.stream(values)
+                    .map(e -> e.name().substring(0, Math.min(prefixMinLength, e.name().length())))
+                    .map(prefix -> caseSensitive ? prefix : prefix.toUpperCase(Locale.ROOT))
+                    .distinct()
+                    .count();
+            if (prefixCount != values.length) {
                 throw new IllegalArgumentException("Enum name prefixes of length " + prefixMinLength +
                         " are not unique for " + enumType.getName());
             }
+            this.nameTable = new EnumNameTable<>(enumType, prefixMinLength, caseSensitive);
+        }
+
+        E valueOrNull(final String s) {
+            return s.length() >= prefixMinLength ? nameTable.valueOrNull(s) : null;
         }
 
         @Override
         public E apply(final String s) {
-            if (s.length() >= prefixMinLength) {
-                final String key = caseSensitive ? s : s.toUpperCase();
-                final E candidate = valuesPyPrefix.get(key.substring(0, prefixMinLength));
-                if (candidate != null && candidate.name().startsWith(key)) {
-                    return candidate;
-                }
+            final E value = valueOrNull(s);
+            if (value != null) {
+                return value;
             }
             throw new IllegalArgumentException("Cannot convert string to " + enumType.getName() + ": " + s);
         }
     }
 
+    /**
+     * Value converter for target type {@link Class} resolving class names via a given class loader.  Resolved classes
+     * are cached by name, hence {@link Class#forName(String, boolean, ClassLoader)} is invoked only once per name.
+     */
+    public static class ClassNameConverter implements ValueConverter {
+        private final ClassLoader classLoader;
+        private final Map<String, Class<?>> classesByName = new ConcurrentHashMap<>();
+
+        public ClassNameConverter(final ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public <T> T convert(final Class<T> type, final Type genericType, final String value) {
+            try {
+                Class<?> clazz = classesByName.get(value);
+                if (clazz == null) {
+                    clazz = Class.forName(value, true, classLoader);
+                    classesByName.putIfAbsent(value, clazz);
+                }
+                return type.cast(clazz);
+            } catch (final Exception e) {
+                throw new IllegalArgumentException("Cannot convert string to " + type.getName() + ": " + value, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the {@code static final} constant of the given target type referenced by value in the form
+     * {@code Type.CONSTANT}, for instance {@code BigDecimal.TEN} or {@code Integer.MAX_VALUE}.  Constants are looked up
+     * in the target type, or in the boxing type if the target type is primitive.
+     *
+     * @param type  the target type
+     * @param value the constant reference such as {@code Duration.ZERO}
+     * @return the constant value, or null if value does not reference a constant of the target type
+     */
+    static Object namedConstantOrNull(final Class<?> type, final String value) {
+        return value.indexOf('.') < 0 ? null : NAMED_CONSTANTS.get(type).get(value);
+    }
+
+    /**
+     * Named constants by {@code Type.CONSTANT} reference, computed once per target type.
+     */
+    private static final ClassValue<Map<String, Object>> NAMED_CONSTANTS = new ClassValue<Map<String, Object>>() {
+        @Override
+        protected Map<String, Object> computeValue(final Class<?> type) {
+            final Class<?> declaringType = type.isPrimitive() ? Primitives.boxingTypeFor(type) : type;
+            final Map<String, Object> constantsByName = new HashMap<>();
+            for (final Field field : declaringType.getFields()) {
+                final int mod = field.getModifiers();
+                final Class<?> fieldType = field.getType().isPrimitive() ? Primitives.boxingTypeFor(field.getType()) : field.getType();
+                if (Modifier.isStatic(mod) && Modifier.isFinal(mod) && declaringType.isAssignableFrom(fieldType)) {
+                    try {
+                        final Object constant = field.get(null);
+                        if (constant != null) {
+                            constantsByName.put(declaringType.getSimpleName() + "." + field.getName(), constant);
+                        }
+                    } catch (final Exception e) {
+                        //ignore, constant is not accessible
+                    }
+                }
+            }
+            return constantsByName.isEmpty() ? Collections.emptyMap() : constantsByName;
+        }
+    };
+
     /**
      * Value converter for target type {@link Optional}.
      */
@@ -272,12 +401,23 @@ public final class Converters {
     }
 
     /**
-     * Value converter for target type {@link Collection} or sub-interfaces and implementations of it.
+     * Value converter for target type {@link Collection} or sub-interfaces and implementations of it.  The target
+     * collection factory is resolved once per collection type, and the collection is created with the expected size
+     * and filled directly.
+     * <p>
+     * If the converter is created with the unmodifiable flag, read-only target types {@link Collection}, {@link List},
+     * {@link Set}, {@link SortedSet} and {@link NavigableSet} are converted into compact unmodifiable collections.
      */
     public static class CollectionConverter implements ValueConverter {
         private final ValueConverter elementConverter;
+        private final ClassValue<Optional<CollectionFactory>> factories;
         public CollectionConverter(final ValueConverter elementConverter) {
+            this(elementConverter, false);
+        }
+
+        public CollectionConverter(final ValueConverter elementConverter, final boolean unmodifiable) {
             this.elementConverter = requireNonNull(elementConverter);
+            this.factories = unmodifiable ? UNMODIFIABLE_FACTORIES : MODIFIABLE_FACTORIES;
         }
 
         @Override
@@ -286,8 +426,14 @@ public final class Converters {
                 throw new IllegalArgumentException("Type must be a collection: " + type.getName());
             }
             final ActualType elementType = actualTypeForTypeParam(genericType, 0, 1);
-            final List<?> list = toList(elementType, value);
-            return convert(type, genericType, list, value);
+            final CollectionFactory factory = factoryFor(type, value);
+            final String plainValue = Strings.removeStartAndEndChars(value, '[', ']');
+            final String[] parts = plainValue.trim().isEmpty() ? new String[0] : parseListValues(plainValue);
+            final Collection<Object> collection = factory.create(genericType, parts.length);
+            for (final String part : parts) {
+                collection.add(elementConverter.convert(elementType.rawType(), elementType.genericType(), part.trim()));
+            }
+            return type.cast(factory.complete(collection));
         }
 
         public <T> T convert(final Class<T> type, final Type genericType, final List<?> list) {
@@ -295,65 +441,125 @@ public final class Converters {
         }
 
         public <T> T convert(final Class<T> type, final Type genericType, final List<?> list, final Object value) {
-            if (type.isInstance(list)) {
+            if (type.isInstance(list) && factories == MODIFIABLE_FACTORIES) {
                 return type.cast(list);
             }
+            final CollectionFactory factory = factoryFor(type, value);
+            final Collection<Object> collection = factory.create(genericType, list.size());
+            collection.addAll(list);
+            return type.cast(factory.complete(collection));
+        }
+
+        private CollectionFactory factoryFor(final Class<?> type, final Object value) {
+            final Optional<CollectionFactory> factory = factories.get(type);
+            if (!factory.isPresent()) {
+                //unsupported collection type
+                throw new IllegalArgumentException("Cannot convert value to " + type.getName() + ": " + value);
+            }
+            return factory.get();
+        }
+
+        /**
+         * Creates a collection for the given generic type and size, and completes it after it was filled.
+         */
+        @FunctionalInterface
+        private interface CollectionFactory {
+            Collection<Object> create(Type genericType, int size);
+            default Object complete(final Collection<Object> collection) {
+                return collection;
+            }
+            static CollectionFactory sized(final IntFunction<? extends Collection<Object>> factory) {
+                return (genericType, size) -> factory.apply(size);
+            }
+            static CollectionFactory unmodifiable(final IntFunction<? extends Collection<Object>> factory,
+                                                  final Function<? super Collection<Object>, ?> completer) {
+                return new CollectionFactory() {
+                    @Override
+                    public Collection<Object> create(final Type genericType, final int size) {
+                        return factory.apply(size);
+                    }
+
+                    @Override
+                    public Object complete(final Collection<Object> collection) {
+                        return completer.apply(collection);
+                    }
+                };
+            }
+        }
+
+        private static final ClassValue<Optional<CollectionFactory>> MODIFIABLE_FACTORIES = new ClassValue<Optional<CollectionFactory>>() {
+            @Override
+            protected Optional<CollectionFactory> computeValue(final Class<?> type) {
+                return Optional.ofNullable(factoryOrNull(type));
+            }
+        };
+
+        private static final ClassValue<Optional<CollectionFactory>> UNMODIFIABLE_FACTORIES = new ClassValue<Optional<CollectionFactory>>() {
+            @Override
+            protected Optional<CollectionFactory> computeValue(final Class<?> type) {
+                final CollectionFactory factory = unmodifiableFactoryOrNull(type);
+                return Optional.ofNullable(factory != null ? factory : factoryOrNull(type));
+            }
+        };
+
+        private static CollectionFactory unmodifiableFactoryOrNull(final Class<?> type) {
+            if (Collection.class.equals(type) || List.class.equals(type)) {
+                return CollectionFactory.unmodifiable(ArrayList::new, c -> c.isEmpty() ? Collections.emptyList() :
+                        c.size() == 1 ? Collections.singletonList(c.iterator().next()) :
+                                Collections.unmodifiableList((List<Object>)c));
+            }
+            if (Set.class.equals(type)) {
+                return CollectionFactory.unmodifiable(size -> new LinkedHashSet<>(hashCapacity(size)), c -> c.isEmpty() ?
+                        Collections.emptySet() : c.size() == 1 ? Collections.singleton(c.iterator().next()) :
+                                Collections.unmodifiableSet((Set<Object>)c));
+            }
+            if (SortedSet.class.equals(type) || NavigableSet.class.equals(type)) {
+                return CollectionFactory.unmodifiable(size -> new TreeSet<>(), c -> c.isEmpty() ?
+                        Collections.emptyNavigableSet() : Collections.unmodifiableNavigableSet((NavigableSet<Object>)c));
+            }
+            return null;
+        }
+
+        private static CollectionFactory factoryOrNull(final Class<?> type) {
             if (type.isAssignableFrom(ArrayList.class)) {
-                return type.cast(new ArrayList<>(list));
+                return CollectionFactory.sized(ArrayList::new);
             }
             if (type.isAssignableFrom(Vector.class)) {
-                return type.cast(new Vector<>(list));
+                return CollectionFactory.sized(Vector::new);
             }
             if (type.isAssignableFrom(LinkedList.class)) {
-                return type.cast(new LinkedList<>(list));
+                return CollectionFactory.sized(size -> new LinkedList<>());
             }
             if (type.isAssignableFrom(ArrayDeque.class)) {
-                return type.cast(new ArrayDeque<>(list));
+                return CollectionFactory.sized(ArrayDeque::new);
             }
             if (type.isAssignableFrom(LinkedHashSet.class)) {
-                return type.cast(new LinkedHashSet<>(list));
+                return CollectionFactory.sized(size -> new LinkedHashSet<>(hashCapacity(size)));
             }
             if (type.isAssignableFrom(TreeSet.class)) {
-                return type.cast(new TreeSet<>(list));
+                return CollectionFactory.sized(size -> new TreeSet<>());
             }
             if (type.isAssignableFrom(HashSet.class)) {
-                return type.cast(new HashSet<>(list));
+                return CollectionFactory.sized(size -> new HashSet<>(hashCapacity(size)));
             }
             if (type.isAssignableFrom(EnumSet.class)) {
-                final ActualType elementType = actualTypeForTypeParam(genericType, 0, 1);
-                final EnumSet<?> enumSet = enumSet(elementType.rawType().asSubclass(Enum.class), list);
-                return type.cast(enumSet);
+                return (genericType, size) -> enumSet(actualTypeForTypeParam(genericType, 0, 1).rawType());
             }
             if (type.isAssignableFrom(ConcurrentLinkedQueue.class)) {
-                return type.cast(new ConcurrentLinkedQueue<>(list));
+                return CollectionFactory.sized(size -> new ConcurrentLinkedQueue<>());
             }
             if (type.isAssignableFrom(ConcurrentLinkedDeque.class)) {
-                return type.cast(new ConcurrentLinkedDeque<>(list));
+                return CollectionFactory.sized(size -> new ConcurrentLinkedDeque<>());
             }
             if (type.isAssignableFrom(ConcurrentSkipListSet.class)) {
-                return type.cast(new ConcurrentSkipListSet<>(list));
+                return CollectionFactory.sized(size -> new ConcurrentSkipListSet<>());
             }
-            //unsupported collection type
-            throw new IllegalArgumentException("Cannot convert value to " + type.getName() + ": " + value);
+            return null;
         }
 
-        private List<Object> toList(final ActualType elementType, final String value) {
-            final String plainValue = Strings.removeStartAndEndChars(value, '[', ']');
-            if (plainValue.trim().isEmpty()) {
-                return Collections.emptyList();
-            }
-            final String[] parts = parseListValues(plainValue);
-            final List<Object> list = new ArrayList<>(parts.length);
-            for (final String part : parts) {
-                list.add(elementConverter.convert(elementType.rawType(), elementType.genericType(), part.trim()));
-            }
-            return list;
-        }
-
-        private static <E extends Enum<E>> EnumSet<E> enumSet(final Class<E> enumType, final List<?> list) {
-            final EnumSet<E> set = EnumSet.noneOf(enumType);
-            list.forEach(v -> set.add(enumType.cast(v)));
-            return set;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static Collection<Object> enumSet(final Class<?> enumType) {
+            return (Collection<Object>)EnumSet.noneOf((Class)enumType.asSubclass(Enum.class));
         }
     }
 
@@ -384,86 +590,164 @@ public final class Converters {
     }
 
     /**
-     * Value converter for target type {@link Map} or sub-interfaces and implementations of it.
+     * Value converter for target type {@link Map} or sub-interfaces and implementations of it.  The target map factory
+     * is resolved once per map type, and the map is created with the expected size and filled directly.
+     * <p>
+     * If the converter is created with the unmodifiable flag, read-only target types {@link Map}, {@link SortedMap} and
+     * {@link NavigableMap} are converted into compact unmodifiable maps.
      */
     public static class MapConverter implements ValueConverter {
         private final ValueConverter elementConverter;
+        private final ClassValue<Optional<MapFactory>> factories;
         public MapConverter(final ValueConverter elementConverter) {
+            this(elementConverter, false);
+        }
+
+        public MapConverter(final ValueConverter elementConverter, final boolean unmodifiable) {
             this.elementConverter = requireNonNull(elementConverter);
+            this.factories = unmodifiable ? UNMODIFIABLE_FACTORIES : MODIFIABLE_FACTORIES;
         }
 
         @Override
         public <T> T convert(final Class<T> type, final Type genericType, final String value) {
             final ActualType keyType = actualTypeForTypeParam(genericType, 0, 2);
             final ActualType valueType = actualTypeForTypeParam(genericType, 1, 2);
-            final Map<?,?> map = toMap(keyType, valueType, value);
-            if (type.isInstance(map)) {
-                return type.cast(map);
+            final Optional<MapFactory> factory = factories.get(type);
+            if (!factory.isPresent()) {
+                //unsupported map type
+                throw new IllegalArgumentException("Cannot convert value to " + type.getName() + ": " + value);
             }
+            final String plainValue = Strings.removeStartAndEndChars(value, '{', '}');
+            final String[] parts = plainValue.trim().isEmpty() ? new String[0] : parseListValues(plainValue);
+            final Map<Object, Object> map = factory.get().create(keyType, parts.length);
+            for (final String part : parts) {
+                final String[] keyAndValue = parseKeyValue(part.trim());
+                if (keyAndValue.length != 2) {
+                    throw new IllegalArgumentException("Invalid map key/value pair: " + part);
+                }
+                try {
+                    final Object key = elementConverter.convert(keyType.rawType(), keyType.genericType(), keyAndValue[0].trim());
+                    final Object val = elementConverter.convert(valueType.rawType(), valueType.genericType(), keyAndValue[1].trim());
+                    map.put(key, val);
+                } catch (final Exception e) {
+                    throw new IllegalArgumentException("Conversion to map key/value failed: " + part, e);
+                }
+            }
+            return type.cast(factory.get().complete(map));
+        }
+
+        /**
+         * Creates a map for the given key type and size, and completes it after it was filled.
+         */
+        @FunctionalInterface
+        private interface MapFactory {
+            Map<Object, Object> create(ActualType keyType, int size);
+            default Object complete(final Map<Object, Object> map) {
+                return map;
+            }
+            static MapFactory sized(final IntFunction<? extends Map<Object, Object>> factory) {
+                return (keyType, size) -> factory.apply(size);
+            }
+            static MapFactory unmodifiable(final IntFunction<? extends Map<Object, Object>> factory,
+                                           final Function<? super Map<Object, Object>, ?> completer) {
+                return new MapFactory() {
+                    @Override
+                    public Map<Object, Object> create(final ActualType keyType, final int size) {
+                        return factory.apply(size);
+                    }
+
+                    @Override
+                    public Object complete(final Map<Object, Object> map) {
+                        return completer.apply(map);
+                    }
+                };
+            }
+        }
+
+        private static final ClassValue<Optional<MapFactory>> MODIFIABLE_FACTORIES = new ClassValue<Optional<MapFactory>>() {
+            @Override
+            protected Optional<MapFactory> computeValue(final Class<?> type) {
+                return Optional.ofNullable(factoryOrNull(type));
+            }
+        };
+
+        private static final ClassValue<Optional<MapFactory>> UNMODIFIABLE_FACTORIES = new ClassValue<Optional<MapFactory>>() {
+            @Override
+            protected Optional<MapFactory> computeValue(final Class<?> type) {
+                final MapFactory factory = unmodifiableFactoryOrNull(type);
+                return Optional.ofNullable(factory != null ? factory : factoryOrNull(type));
+            }
+        };
+
+        private static MapFactory unmodifiableFactoryOrNull(final Class<?> type) {
+            if (Map.class.equals(type)) {
+                return MapFactory.unmodifiable(size -> new LinkedHashMap<>(hashCapacity(size)), m -> {
+                    if (m.isEmpty()) {
+                        return Collections.emptyMap();
+                    }
+                    if (m.size() == 1) {
+                        final Map.Entry<Object, Object> entry = m.entrySet().iterator().next();
+                        return Collections.singletonMap(entry.getKey(), entry.getValue());
+                    }
+                    return Collections.unmodifiableMap(m);
+                });
+            }
+            if (SortedMap.class.equals(type) || NavigableMap.class.equals(type)) {
+                return MapFactory.unmodifiable(size -> new TreeMap<>(), m -> m.isEmpty() ?
+                        Collections.emptyNavigableMap() : Collections.unmodifiableNavigableMap((NavigableMap<Object, Object>)m));
+            }
+            return null;
+        }
+
+        private static MapFactory factoryOrNull(final Class<?> type) {
             if (type.isAssignableFrom(LinkedHashMap.class)) {
-                return type.cast(new LinkedHashMap<>(map));
+                return MapFactory.sized(size -> new LinkedHashMap<>(hashCapacity(size)));
             }
             if (type.isAssignableFrom(TreeMap.class)) {
-                return type.cast(new TreeMap<>(map));
+                return MapFactory.sized(size -> new TreeMap<>());
             }
             if (type.isAssignableFrom(HashMap.class)) {
-                return type.cast(new HashMap<>(map));
+                return MapFactory.sized(size -> new HashMap<>(hashCapacity(size)));
             }
             if (type.isAssignableFrom(Hashtable.class)) {
-                return type.cast(new Hashtable<>(map));
+                return MapFactory.sized(size -> new Hashtable<>(hashCapacity(size)));
             }
             if (type.isAssignableFrom(EnumMap.class)) {
-                final EnumMap<?,?> enumMap = enumMap(keyType.rawType().asSubclass(Enum.class), map);
-                return type.cast(enumMap);
+                return (keyType, size) -> enumMap(keyType.rawType());
             }
             if (type.isAssignableFrom(Properties.class)) {
-                final Properties props = new Properties();
-                props.putAll(map);
-                return type.cast(props);
+                return MapFactory.sized(size -> new Properties());
             }
             if (type.isAssignableFrom(ConcurrentHashMap.class)) {
-                return type.cast(new ConcurrentHashMap<>(map));
+                return MapFactory.sized(size -> new ConcurrentHashMap<>(hashCapacity(size)));
             }
             if (type.isAssignableFrom(ConcurrentSkipListMap.class)) {
-                return type.cast(new ConcurrentSkipListMap<>(map));
+                return MapFactory.sized(size -> new ConcurrentSkipListMap<>());
             }
-            //unsupported map type
-            throw new IllegalArgumentException("Cannot convert value to " + type.getName() + ": " + value);
+            return null;
         }
 
-        private Map<Object, Object> toMap(final ActualType keyType, final ActualType valueType, final String value) {
-            final String plainValue = Strings.removeStartAndEndChars(value, '{', '}');
-            if (plainValue.trim().isEmpty()) {
-                return Collections.emptyMap();
-            }
-            final String[] parts = parseListValues(plainValue);
-            final Map<Object, Object> map = new LinkedHashMap<>();
-            for (final String part : parts) {
-                final String[] keyAndValue = parseKeyValue(part.trim());
-                if (keyAndValue.length != 2) {
-                    throw new IllegalArgumentException("Invalid map key/value pair: " + part);
-                }
-                try {
-                    final Object key = elementConverter.convert(keyType.rawType(), keyType.genericType(), keyAndValue[0].trim());
-                    final Object val = elementConverter.convert(valueType.rawType(), valueType.genericType(), keyAndValue[1].trim());
-                    map.put(key, val);
-                } catch (final Exception e) {
-                    throw new IllegalArgumentException("Conversion to map key/value failed: " + part, e);
-                }
-            }
-            return map;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static Map<Object, Object> enumMap(final Class<?> enumType) {
+            return (Map<Object, Object>)new EnumMap(enumType.asSubclass(Enum.class));
         }
+    }
 
-        private static <K extends Enum<K>, V> EnumMap<K, V> enumMap(final Class<K> enumType, final Map<?,V> map) {
-            final EnumMap<K,V> enumMap = new EnumMap<>(enumType);
-            map.forEach((k,v) -> enumMap.put(enumType.cast(k), v));
-            return enumMap;
-        }
+    /**
+     * Returns the initial capacity for a hash based collection or map to hold the given number of elements without
+     * rehashing.
+     *
+     * @param size the expected number of elements
+     * @return the initial capacity for the given size and default load factor
+     */
+    private static int hashCapacity(final int size) {
+        return size < 3 ? size + 1 : (int)(size / 0.75f + 1.0f);
     }
 
     /**
      * Value converter for Java beans as target type. The beans either have getters and setters to access the fields
-     * or otherwise fields are accessed directly.
+     * or otherwise fields are accessed directly.  Constructor and property setters of a bean type are inspected only
+     * once and kept as method handles in a {@link BeanPlan}.
      */
     public static class BeanConverter implements ValueConverter {
 
@@ -479,34 +763,16 @@ public final class Converters {
 
         @Override
         public <T> T convert(final Class<T> type, final Type genericType, final String value) {
-            final T instance = newInstance(type, value);
-            final Map<String, Accessor> accessorByName = new LinkedHashMap<>();
-            if (hasAccessibleSetters(type)) {
-                inspectSetters(type, accessorByName);
-            } else {
-                inspectFields(type, accessorByName);
-            }
-            if (accessorByName.isEmpty()) {
-                throw new IllegalArgumentException(type.getName() + " is not a bean class, no accessible setters or fields found");
-            }
-            injectValues(instance, accessorByName, value);
+            final BeanPlan plan = BEAN_PLANS.get(type);
+            final T instance = type.cast(plan.newInstance());
+            injectValues(instance, plan, value);
             return instance;
         }
 
-        private <T> T newInstance(final Class<T> type, final String ignoredValue) {
-            try {
-                final Constructor<T> constructor = type.getDeclaredConstructor();
-                constructor.setAccessible(true);
-                return constructor.newInstance();
-            } catch (final Exception e) {
-                throw new IllegalArgumentException("Could not instantiate bean " + type.getName(), e);
-            }
-        }
-
-        private void injectValues(final Object instance, final Map<String, Accessor> accessorByName, final String value) {
+        private void injectValues(final Object instance, final BeanPlan plan, final String value) {
             final String plainValue = Strings.removeStartAndEndChars(value, '{', '}');
             final String[] parts = parseListValues(plainValue);
-            final Map<String, String> valueByName = new LinkedHashMap<>();
+            final Map<String, String> valueByName = new HashMap<>();
             for (final String part : parts) {
                 final String[] nameAndValue = parseKeyValue(part.trim());
                 if (nameAndValue.length != 2) {
@@ -516,19 +782,20 @@ public final class Converters {
                 final String val = nameAndValue[1].trim();
                 valueByName.put(name, val);
             }
-            for (final Map.Entry<String, Accessor> e : accessorByName.entrySet()) {
-                final String val = valueByName.get(e.getKey());
+            for (final BeanProperty property : plan.properties) {
+                final String val = valueByName.get(property.name);
                 if (val == null) {
-                    throw new IllegalArgumentException("No value found for bean property " + instance.getClass().getName() + "." + e.getKey());
+                    throw new IllegalArgumentException("No value found for bean property " + instance.getClass().getName() + "." + property.name);
                 }
                 try {
-                    final Class<?> type = e.getValue().type();
-                    final Type genericType = e.getValue().genericType();
-                    final Object convertedVal = elementConverter.convert(type, genericType, val);
-                    e.getValue().set(instance, convertedVal);
-                } catch (final Exception ex) {
-                    throw new IllegalArgumentException("Could not set bean property " + instance.getClass().getName() + "." + e.getKey() +
-                            " to value: " + val, ex);
+                    final Object convertedVal = elementConverter.convert(property.type, property.genericType, val);
+                    property.setter.invokeExact(instance, convertedVal);
+                } catch (final Throwable t) {
+                    if (t instanceof Error) {
+                        throw (Error)t;
+                    }
+                    throw new IllegalArgumentException("Could not set bean property " + instance.getClass().getName() + "." + property.name +
+                            " to value: " + val, t);
                 }
             }
         }
@@ -550,67 +817,146 @@ public final class Converters {
             }
         }
 
-        private interface Accessor {
-            void set(Object instance, Object value) throws Exception;
-            default Class<?> type() {
-                return Object.class;
-            }
-            default Type genericType() {
-                return Object.class;
-            }
-            static Accessor forType(final Class<?> type, final Type genericType, final Accessor accessor) {
-                return new Accessor() {
-                    @Override
-                    public void set(final Object instance, final Object value) throws Exception {
-                        accessor.set(instance, value);
-                    }
-
-                    @Override
-                    public Class<?> type() {
-                        return type;
-                    }
-
-                    @Override
-                    public Type genericType() {
-                        return genericType;
-                    }
-                };
-            }
-        }
-
         private static boolean hasAccessibleSetters(final Class<?> clazz) {
             return !inspectSetters(clazz, new HashMap<>()).isEmpty();
         }
-        private static Map<String, Accessor> inspectSetters(final Class<?> clazz, final Map<String, Accessor> accessorByName) {
+        private static Map<String, Member> inspectSetters(final Class<?> clazz, final Map<String, Member> setterByName) {
             if (clazz == null || Object.class.equals(clazz)) {
-                return accessorByName;
+                return setterByName;
             }
             for (final Method method : clazz.getDeclaredMethods()) {
                 final int mod = method.getModifiers();
                 final String name = method.getName();
                 if (name.length() > 3 && name.startsWith("set") && method.getParameterCount() == 1 &&
                         !method.isSynthetic() && !Modifier.isStatic(mod) && !Modifier.isPrivate(mod) && !Modifier.isProtected(mod)) {
-                    final String propertyName = normalizeFieldName(name.substring(3));
-                    accessorByName.put(propertyName, Accessor.forType(method.getParameterTypes()[0], method.getGenericParameterTypes()[0], method::invoke));
+                    setterByName.put(normalizeFieldName(name.substring(3)), method);
                 }
             }
-            return inspectSetters(clazz.getSuperclass(), accessorByName);
+            return inspectSetters(clazz.getSuperclass(), setterByName);
         }
 
         private static boolean hasAccessibleFields(final Class<?> clazz) {
             return !inspectFields(clazz, new HashMap<>()).isEmpty();
         }
-        private static Map<String, Accessor> inspectFields(final Class<?> clazz, final Map<String, Accessor> accessorByName) {
+        private static Map<String, Member> inspectFields(final Class<?> clazz, final Map<String, Member> fieldByName) {
             if (clazz == null || Object.class.equals(clazz)) {
-                return accessorByName;
+                return fieldByName;
             }
             for (final Field field : clazz.getDeclaredFields()) {
                 final int mod = field.getModifiers();
                 if (!field.isSynthetic() && !Modifier.isFinal(mod) && !Modifier.isStatic(mod) && !Modifier.isPrivate(mod) && !Modifier.isProtected(mod)) {
-                    accessorByName.put(field.getName(), Accessor.forType(field.getType(), field.getGenericType(), field::set));
+                    fieldByName.put(field.getName(), field);
+                }
+            }
+            return inspectFields(clazz.getSuperclass(), fieldByName);
+        }
+
+        /**
+         * Bean plans computed once per bean type.
+         */
+        private static final ClassValue<BeanPlan> BEAN_PLANS = new ClassValue<BeanPlan>() {
+            @Override
+            protected BeanPlan computeValue(final Class<?> type) {
+                return new BeanPlan(type);
+            }
+        };
+
+        /**
+         * Constructor and properties of a bean type, with method handles for instantiation and property assignment.
+         */
+        private static final class BeanPlan {
+            private final Class<?> type;
+            private final MethodHandle constructor;
+            private final RuntimeException constructorFailure;
+            private final BeanProperty[] properties;
+
+            BeanPlan(final Class<?> type) {
+                MethodHandle constructor = null;
+                RuntimeException constructorFailure = null;
+                try {
+                    final Constructor<?> defaultConstructor = type.getDeclaredConstructor();
+                    defaultConstructor.setAccessible(true);
+                    constructor = MethodHandles.lookup().unreflectConstructor(defaultConstructor)
+                            .asType(MethodType.methodType(Object.class));
+                } catch (final Exception e) {
+                    constructorFailure = new IllegalArgumentException("Could not instantiate bean " + type.getName(), e);
+                }
+                final Map<String, Member> memberByName = new LinkedHashMap<>();
+                if (hasAccessibleSetters(type)) {
+                    inspectSetters(type, memberByName);
+                } else {
+                    inspectFields(type, memberByName);
+                }
+                final List<BeanProperty> properties = new ArrayList<>(memberByName.size());
+                for (final Map.Entry<String, Member> e : memberByName.entrySet()) {
+                    properties.add(BeanProperty.create(e.getKey(), e.getValue()));
+                }
+                this.type = type;
+                this.constructor = constructor;
+                this.constructorFailure = constructorFailure;
+                this.properties = properties.toArray(new BeanProperty[0]);
+            }
+
+            Object newInstance() {
+                if (constructor == null) {
+                    throw constructorFailure;
+                }
+                if (properties.length == 0) {
+                    throw new IllegalArgumentException(type.getName() + " is not a bean class, no accessible setters or fields found");
+                }
+                try {
+                    return constructor.invokeExact();
+                } catch (final Throwable t) {
+                    if (t instanceof Error) {
+                        throw (Error)t;
+                    }
+                    throw new IllegalArgumentException("Could not instantiate bean " + type.getName(), t);
+                }
+            }
+        }
+
+        /**
+         * Bean property with type information and a setter method handle of type {@code (Object, Object)void}.
+         */
+        private static final class BeanProperty {
+            private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+            private final String name;
+            private final Class<?> type;
+            private final Type genericType;
+            private final MethodHandle setter;
+
+            private BeanProperty(final String name, final Class<?> type, final Type genericType, final MethodHandle setter) {
+                this.name = requireNonNull(name);
+                this.type = requireNonNull(type);
+                this.genericType = requireNonNull(genericType);
+                this.setter = setter.asType(SETTER_TYPE);
+            }
+
+            static BeanProperty create(final String name, final Member member) {
+                try {
+                    final MethodHandles.Lookup lookup = MethodHandles.lookup();
+                    if (member instanceof Method) {
+                        final Method method = (Method)member;
+                        trySetAccessible(method);
+                        return new BeanProperty(name, method.getParameterTypes()[0], method.getGenericParameterTypes()[0],
+                                lookup.unreflect(method));
+                    }
+                    final Field field = (Field)member;
+                    trySetAccessible(field);
+                    return new BeanProperty(name, field.getType(), field.getGenericType(), lookup.unreflectSetter(field));
+                } catch (final IllegalAccessException e) {
+                    throw new IllegalArgumentException("Cannot access bean property " + member.getDeclaringClass().getName() +
+                            "." + name, e);
+                }
+            }
+
+            private static void trySetAccessible(final AccessibleObject accessibleObject) {
+                try {
+                    accessibleObject.setAccessible(true);
+                } catch (final RuntimeException e) {
+                    //ignore, we may not need it
                 }
             }
-            return inspectFields(clazz.getSuperclass(), accessorByName);
         }
     }
 
@@ -52,4 +52,13 @@ public @interface Data {
 	 * @return the data provider type
 	 */
 	Class<? extends DataProvider> value();
+
+	/**
+	 * The scope of the provided data; data is shared across injections if the scope is not
+	 * {@link DataScope#INSTANCE INSTANCE} and if the {@linkplain DataProvider#isDataShareable data provider} supports
+	 * sharing of its data.
+	 *
+	 * @return the data scope, {@link DataScope#INSTANCE INSTANCE} by default
+	 */
+	DataScope scope() default DataScope.INSTANCE;
 }
@@ -23,16 +23,37 @@
  */
 package org.tools4j.spockito.table;
 
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+
 /**
  * A {@code DataProvider} is responsible for {@linkplain #provideData providing} data to be injected to a field or to
  * parameters of a method.
  *
  * <p>A {@code DataProvider} can be registered via the {@link Data @Data} annotation.
  *
- * <p>Implementations must provide a no-args constructor.
+ * <p>Implementations must provide a no-args constructor.  Implementations without mutable state can be annotated with
+ * {@link Stateless @Stateless} in which case a single instance is {@linkplain #create(Class) created} and used for all
+ * injections.
  */
 public interface DataProvider {
 
+    /**
+     * Marks a data provider implementation as stateless, or as safe to use concurrently for any number of injections.
+     * Only a single instance of stateless providers is created, which can then also keep internal caches across calls.
+     * <p>
+     * The annotation is not inherited, and subclasses of a stateless provider must be annotated themselves to be
+     * treated as stateless.
+     */
+    @Target(TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Documented
+    @interface Stateless {}
+
     /**
      * Returns true if the data provider is applicable for the given injection context.  The method returns true by
      * default but some implementations may return false in certain circumstances for instance to prevent double
@@ -53,4 +74,48 @@ public interface DataProvider {
      */
     Object provideData(InjectionContext context);
 
+    /**
+     * Returns true if the data provided for the given context can be shared, that is, if it is safe to hand out
+     * unmodifiable views or copies of the same data for multiple injections.  Data for fields is shared only if this
+     * method returns true and if the {@linkplain #scope(InjectionContext) scope} is not
+     * {@link DataScope#INSTANCE INSTANCE}.
+     * <p>
+     * Data for method parameters is provided once per parameter and shared for all table rows passed to the method if
+     * this method returns true:  with {@link DataScope#INSTANCE INSTANCE} scope as defensive copy of mutable
+     * collections, maps and arrays, and with other scopes as unmodifiable view.  Elements are shared in both cases.
+     * Providers whose parameter data depends on the table row must return false.
+     *
+     * @param context the injection context
+     * @return false by default
+     */
+    default boolean isDataShareable(final InjectionContext context) {
+        return false;
+    }
+
+    /**
+     * Returns the scope of the data provided for the given context.  The default implementation returns the scope
+     * defined by the {@linkplain Data @Data} annotation of the annotated element.
+     *
+     * @param context the injection context
+     * @return the data scope, {@link DataScope#INSTANCE INSTANCE} if no other scope is defined
+     */
+    default DataScope scope(final InjectionContext context) {
+        final Data data = SpockitoAnnotations.annotationDirectOrMeta(context.annotatedElement(), Data.class);
+        return data == null ? DataScope.INSTANCE : data.scope();
+    }
+
+    /**
+     * Returns a data provider instance of the given type;  a single shared instance is returned for providers annotated
+     * with {@link Stateless @Stateless}, and a new instance for all other providers.
+     *
+     * @param type the data provider type
+     * @return the data provider instance
+     * @throws SpockitoException if the data provider cannot be instantiated
+     */
+    static DataProvider create(final Class<? extends DataProvider> type) {
+        if (type.isAnnotationPresent(Stateless.class)) {
+            return DataProviders.STATELESS_INSTANCES.get(type);
+        }
+        return DataProviders.newInstance(type);
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.table;
+
+/**
+ * Scope of data provided by a {@link DataProvider}, defining whether a provided value is computed for every injection
+ * or computed once and shared.  Shared values are handed out as unmodifiable views or defensive copies, and only if
+ * the {@linkplain DataProvider#isDataShareable(InjectionContext) data provider} declares its data as shareable.
+ * Elements of shared collections and arrays are shared as well and should hence not be modified.
+ *
+ * @see Data#scope()
+ * @see TableData#scope()
+ */
+public enum DataScope {
+    /**
+     * Data is provided for every injection into a field, that is, for every test instance;  this is the default.
+     * Shareable data for method parameters does not depend on the test instance and is provided once per parameter,
+     * every invocation receives a defensive copy of mutable collections, maps and arrays with shared elements.
+     */
+    INSTANCE,
+    /**
+     * Data is provided once per annotated element and shared by all instances of the declaring class.
+     */
+    CLASS,
+    /**
+     * Data is provided once and shared by all annotated elements with the same data provider class, target type and
+     * equal annotations, even if declared in different classes of the same class loader.  Shared values are retained
+     * as long as the class loader of the declaring classes is alive.
+     */
+    JVM
+}
@@ -27,13 +27,18 @@ import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 
 import static java.util.Objects.requireNonNull;
 
 /**
- * Contains static helper methods to inspect and specify generic types.
+ * Contains static helper methods to inspect and specify generic types.  Types and actual types returned by the
+ * methods of this class have value based {@code equals} and {@code hashCode} and can hence be used as cache keys.
+ * <p>
+ * Returned instances are not interned or cached in static maps as this would keep the classes they refer to, and hence
+ * their class loaders, reachable for the life time of the JVM.
  */
 public enum GenericTypes {
     ;
@@ -42,24 +47,7 @@ public enum GenericTypes {
         Type genericType();
 
         static ActualType create(final Class<?> rawType, final Type genericType) {
-            requireNonNull(rawType);
-            requireNonNull(genericType);
-            return new ActualType() {
-                @Override
-                public Class<?> rawType() {
-                    return rawType;
-                }
-
-                @Override
-                public Type genericType() {
-                    return genericType;
-                }
-
-                @Override
-                public String toString() {
-                    return "ActualType{rawType=" + rawType + ", genericType=" + genericType + "}";
-                }
-            };
+            return new ActualTypeImpl(rawType, genericType);
         }
     }
 
@@ -103,24 +91,118 @@ public enum GenericTypes {
     }
 
     public static ParameterizedType genericListType(final Type listElementType) {
-        requireNonNull(listElementType);
-        return new ParameterizedType() {
-            @Override
-            public Type[] getActualTypeArguments() {
-                return new Type[]{listElementType};
+        return parameterizedType(List.class, listElementType);
+    }
+
+    /**
+     * Returns a parameterized type for the given raw type and type arguments.  The returned type is equal to (and has
+     * the same hash code as) any other parameterized type with equal raw type, type arguments and no owner type.
+     *
+     * @param rawType           the raw type, for instance {@code Map.class}
+     * @param actualTypeArgs    the actual type arguments, for instance {@code String.class} and {@code Integer.class}
+     * @return the parameterized type
+     */
+    public static ParameterizedType parameterizedType(final Class<?> rawType, final Type... actualTypeArgs) {
+        return new ParameterizedTypeImpl(rawType, actualTypeArgs);
+    }
+
+    private static final class ActualTypeImpl implements ActualType {
+        private final Class<?> rawType;
+        private final Type genericType;
+
+        ActualTypeImpl(final Class<?> rawType, final Type genericType) {
+            this.rawType = requireNonNull(rawType);
+            this.genericType = requireNonNull(genericType);
+        }
+
+        @Override
+        public Class<?> rawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type genericType() {
+            return genericType;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
             }
-            @Override
-            public Type getRawType() {
-                return List.class;
+            if (obj == null || obj.getClass() != getClass()) {
+                return false;
             }
-            @Override
-            public Type getOwnerType() {
-                return null;
+            final ActualTypeImpl that = (ActualTypeImpl)obj;
+            return rawType.equals(that.rawType) && genericType.equals(that.genericType);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * rawType.hashCode() + genericType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ActualType{rawType=" + rawType + ", genericType=" + genericType + "}";
+        }
+    }
+
+    private static final class ParameterizedTypeImpl implements ParameterizedType {
+        private final Class<?> rawType;
+        private final Type[] actualTypeArgs;
+        private final int hashCode;
+
+        ParameterizedTypeImpl(final Class<?> rawType, final Type... actualTypeArgs) {
+            this.rawType = requireNonNull(rawType);
+            this.actualTypeArgs = actualTypeArgs.clone();
+            for (final Type actualTypeArg : this.actualTypeArgs) {
+                requireNonNull(actualTypeArg);
             }
-            @Override
-            public String toString() {
-                return List.class.getName() + "<" + listElementType + ">";
+            //same as JDK implementation (with null owner type) so that equal types have equal hash codes
+            this.hashCode = Arrays.hashCode(this.actualTypeArgs) ^ rawType.hashCode();
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return actualTypeArgs.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return null;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof ParameterizedType)) {
+                return false;
             }
-        };
+            final ParameterizedType that = (ParameterizedType)obj;
+            return rawType.equals(that.getRawType()) && that.getOwnerType() == null &&
+                    Arrays.equals(actualTypeArgs, that.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder(rawType.getName()).append('<');
+            for (int i = 0; i < actualTypeArgs.length; i++) {
+                sb.append(i == 0 ? "" : ", ").append(actualTypeArgs[i].getTypeName());
+            }
+            return sb.append('>').toString();
+        }
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.table;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Utility to check whether values are deeply immutable, for instance to decide whether converted values can be shared.
+ */
+public enum Immutables {
+    ;
+
+    /**
+     * Returns true if the given value is of a well-known immutable type such as strings, boxed primitives, enums,
+     * classes, tables and table rows, big numbers or types of the {@code java.time} package.
+     *
+     * @param value the value to check
+     * @return true if value is null or of a well known deeply immutable type, and false otherwise
+     */
+    public static boolean isImmutable(final Object value) {
+        if (value == null) {
+            return true;
+        }
+        final Class<?> type = value.getClass();
+        return value instanceof String || value instanceof Boolean || value instanceof Character ||
+                value instanceof Enum || value instanceof Class || value instanceof Table || value instanceof TableRow ||
+                type == Integer.class || type == Long.class || type == Short.class || type == Byte.class ||
+                type == Double.class || type == Float.class || type == BigDecimal.class || type == BigInteger.class ||
+                type.getName().startsWith("java.time.");
+    }
+
+    /**
+     * Returns true if all given values are {@linkplain #isImmutable(Object) immutable}.
+     *
+     * @param values the values to check
+     * @return true if all values are immutable
+     */
+    public static boolean areImmutable(final Object... values) {
+        for (final Object value : values) {
+            if (!isImmutable(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.table;
+
+import org.tools4j.spockito.table.InjectionContext.Phase;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+import static org.tools4j.spockito.table.SpockitoAnnotations.annotationDirectOrMeta;
+
+/**
+ * Immutable injection plan with the fields and methods of a class that are annotated with {@linkplain Data @Data}
+ * providers.  The plan is computed once per class;  fields and methods are listed in injection order, that is, members
+ * of the class before members of its super classes.
+ */
+final class InjectionPlan {
+
+    private static final ClassValue<InjectionPlan> PLANS = new ClassValue<InjectionPlan>() {
+        @Override
+        protected InjectionPlan computeValue(final Class<?> type) {
+            return new InjectionPlan(type);
+        }
+    };
+
+    private final List<DataField> staticFields;
+    private final List<DataField> instanceFields;
+    private final List<DataMethod> staticMethods;
+    private final List<DataMethod> instanceMethods;
+
+    private InjectionPlan(final Class<?> clazz) {
+        final List<DataField> staticFields = new ArrayList<>();
+        final List<DataField> instanceFields = new ArrayList<>();
+        final List<DataMethod> staticMethods = new ArrayList<>();
+        final List<DataMethod> instanceMethods = new ArrayList<>();
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (final Field field : c.getDeclaredFields()) {
+                final Data data = annotationDirectOrMeta(field, Data.class);
+                if (data != null) {
+                    (Modifier.isStatic(field.getModifiers()) ? staticFields : instanceFields).add(new DataField(field, data));
+                }
+            }
+        }
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (final Method method : c.getDeclaredMethods()) {
+                final Data data = annotationDirectOrMeta(method, Data.class);
+                if (data != null) {
+                    (Modifier.isStatic(method.getModifiers()) ? staticMethods : instanceMethods).add(new DataMethod(method, data));
+                }
+            }
+        }
+        this.staticFields = Collections.unmodifiableList(staticFields);
+        this.instanceFields = Collections.unmodifiableList(instanceFields);
+        this.staticMethods = Collections.unmodifiableList(staticMethods);
+        this.instanceMethods = Collections.unmodifiableList(instanceMethods);
+    }
+
+    /**
+     * Returns the injection plan for the given class.
+     *
+     * @param clazz the class whose plan is returned
+     * @return the plan, computed on first access for the class
+     */
+    static InjectionPlan forClass(final Class<?> clazz) {
+        return PLANS.get(clazz);
+    }
+
+    List<DataField> fields(final boolean statics) {
+        return statics ? staticFields : instanceFields;
+    }
+
+    List<DataMethod> methods(final boolean statics) {
+        return statics ? staticMethods : instanceMethods;
+    }
+
+    /**
+     * A field annotated with a {@linkplain Data @Data} provider.
+     */
+    static final class DataField {
+        final Field field;
+        final Data data;
+        final InjectionContext context;
+
+        DataField(final Field field, final Data data) {
+            this.field = requireNonNull(field);
+            this.data = requireNonNull(data);
+            this.context = InjectionContext.create(Phase.INIT, field);
+            trySetAccessible(field);
+        }
+    }
+
+    /**
+     * A method annotated with a {@linkplain Data @Data} provider.  The method is invoked through a method handle of type
+     * {@code (Object, Object[])void} taking the instance (ignored for static methods) and the spread arguments.
+     */
+    static final class DataMethod {
+        final Method method;
+        final Data data;
+        final InjectionContext context;
+        final MethodHandle invoker;
+
+        DataMethod(final Method method, final Data data) {
+            this.method = requireNonNull(method);
+            this.data = requireNonNull(data);
+            this.context = InjectionContext.create(Phase.INIT, method);
+            this.invoker = trySetAccessible(method) ? invokerOrNull(method) : null;
+        }
+
+        /**
+         * Invokes the method with the given arguments.
+         *
+         * @param instance  the instance, ignored for static methods
+         * @param args      the arguments, exactly one per method parameter
+         * @throws InvocationTargetException if invoking the method fails, including exceptions thrown by the method
+         *                                   itself and failures caused by arguments of invalid type
+         * @throws IllegalAccessException if the method is not accessible
+         */
+        void invoke(final Object instance, final Object[] args) throws InvocationTargetException, IllegalAccessException {
+            if (invoker == null) {
+                method.invoke(instance, args);
+                return;
+            }
+            try {
+                invoker.invokeExact(instance, args);
+            } catch (final Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        private static MethodHandle invokerOrNull(final Method method) {
+            try {
+                final int parameterCount = method.getParameterCount();
+                MethodHandle handle = MethodHandles.lookup().unreflect(method);
+                if (Modifier.isStatic(method.getModifiers())) {
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                }
+                return handle
+                        .asType(MethodType.genericMethodType(parameterCount + 1).changeReturnType(void.class))
+                        .asSpreader(Object[].class, parameterCount);
+            } catch (final IllegalAccessException | RuntimeException e) {
+                //fall back to reflective invocation
+                return null;
+            }
+        }
+    }
+
+    private static boolean trySetAccessible(final AccessibleObject accessibleObject) {
+        try {
+            accessibleObject.setAccessible(true);
+            return true;
+        } catch (final RuntimeException e) {
+            //ignore, access will fail at injection time
+            return false;
+        }
+    }
+}
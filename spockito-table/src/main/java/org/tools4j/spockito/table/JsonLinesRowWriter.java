@@ -0,0 +1,215 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.table;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Row listener writing events as JSON lines, one JSON object per line.  Publishing an event only enqueues it in a
+ * lock-free queue;  events are formatted and written by a background thread through a buffered writer.  The writer is
+ * flushed whenever the queue is drained, and it is closed after writing all pending events when {@link #close()} is
+ * called or when the JVM shuts down.  If writing fails, the failure is logged as warning and further events are
+ * discarded.
+ */
+public final class JsonLinesRowWriter implements RowListener, AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(JsonLinesRowWriter.class.getName());
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final Writer writer;
+    private final Queue<RowEvent> queue = new ConcurrentLinkedQueue<>();
+    private final Thread writerThread;
+    private volatile boolean idle;
+    private volatile boolean closed;
+
+    public JsonLinesRowWriter(final Writer writer) {
+        this.writer = requireNonNull(writer);
+        this.writerThread = new Thread(this::writeEvents, "spockito-row-event-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Opens a writer for the given file which is created or truncated, and registers a shutdown hook to close the
+     * writer when the JVM shuts down.
+     *
+     * @param file the file to write to
+     * @return the new writer
+     * @throws UncheckedIOException if the file cannot be opened
+     */
+    public static JsonLinesRowWriter open(final Path file) {
+        final JsonLinesRowWriter rowWriter;
+        try {
+            final Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            rowWriter = new JsonLinesRowWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot open row event file " + file, e);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(rowWriter::close, "spockito-row-event-writer-shutdown"));
+        return rowWriter;
+    }
+
+    static String processId() {
+        final String name = ManagementFactory.getRuntimeMXBean().getName();
+        final int at = name.indexOf('@');
+        return at > 0 ? name.substring(0, at) : name;
+    }
+
+    @Override
+    public void rowFinished(final RowEvent event) {
+        if (closed) {
+            return;
+        }
+        queue.offer(event);
+        if (idle) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * Writes all pending events, closes the underlying writer and stops the background thread.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeEvents() {
+        final StringBuilder line = new StringBuilder(256);
+        try (final Writer out = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer)) {
+            while (true) {
+                final boolean closing = closed;
+                RowEvent event;
+                while ((event = queue.poll()) != null) {
+                    line.setLength(0);
+                    out.write(appendJson(event, line).append('\n').toString());
+                }
+                out.flush();
+                if (closing) {
+                    return;
+                }
+                idle = true;
+                if (queue.isEmpty() && !closed) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                idle = false;
+            }
+        } catch (final IOException e) {
+            closed = true;
+            queue.clear();
+            LOGGER.log(Level.WARNING, "Writing row events failed, further events are discarded", e);
+        }
+    }
+
+    static StringBuilder appendJson(final RowEvent event, final StringBuilder json) {
+        json.append("{\"table\":");
+        appendString(event.tableId(), json);
+        json.append(",\"test\":");
+        appendString(event.testName(), json);
+        json.append(",\"row\":").append(event.rowIndex());
+        json.append(",\"keys\":{");
+        boolean first = true;
+        for (final Map.Entry<String, String> entry : event.keyValues().entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+            appendString(entry.getKey(), json);
+            json.append(':');
+            appendString(entry.getValue(), json);
+            first = false;
+        }
+        json.append("},\"outcome\":");
+        appendString(event.outcome().name(), json);
+        json.append(",\"failure\":");
+        appendString(event.failureOrNull() == null ? null : event.failureOrNull().toString(), json);
+        json.append(",\"conversionNanos\":").append(event.conversionNanos());
+        json.append(",\"setupNanos\":").append(event.setupNanos());
+        json.append(",\"testNanos\":").append(event.testNanos());
+        return json.append('}');
+    }
+
+    private static void appendString(final String value, final StringBuilder json) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            switch (ch) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (ch < 0x20) {
+                        json.append(String.format("\\u%04x", (int)ch));
+                    } else {
+                        json.append(ch);
+                    }
+            }
+        }
+        json.append('"');
+    }
+}
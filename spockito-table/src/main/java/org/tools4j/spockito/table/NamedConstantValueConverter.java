@@ -0,0 +1,52 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.table;
+
+import java.lang.reflect.Type;
+
+/**
+ * Value converter extending the {@link SpockitoValueConverter} with support for {@code static final} constants of the
+ * target type referenced as {@code Type.CONSTANT}, for instance {@code BigDecimal.TEN}, {@code Duration.ZERO} or
+ * {@code Integer.MAX_VALUE}.  Constants are resolved once per target type;  values not referencing a constant are
+ * converted as usual.  Column conversions such as {@link #convertIntColumn(java.util.List)} resolve constants in the
+ * same way as they delegate to {@link #convert(Class, Type, String)}.
+ * <p>
+ * Constant lookup is not part of the default converter since a value such as {@code Integer.MAX_VALUE} could also be
+ * meant literally, for instance for string columns;  tables referencing constants can select this converter via
+ * {@link TableData#valueConverter()}.
+ */
+public class NamedConstantValueConverter extends SpockitoValueConverter {
+
+    @Override
+    public <T> T convert(final Class<T> type, final Type genericType, final String value) {
+        if (value != null) {
+            final Object constant = Converters.namedConstantOrNull(type, value);
+            if (constant != null) {
+                final Class<T> boxingType = type.isPrimitive() ? Primitives.boxingTypeFor(type) : type;
+                return boxingType.cast(constant);
+            }
+        }
+        return super.convert(type, genericType, value);
+    }
+}
@@ -66,4 +66,21 @@ enum Primitives {
         }
         throw new IllegalArgumentException("Not a primitive type: " + type.getName());
     }
+
+    /**
+     * Returns the given boxed value after checking that it is not null.
+     *
+     * @param value the boxed value to check
+     * @param type  the primitive type, used for the exception message
+     * @param index the value index, used for the exception message
+     * @param <T> the boxing type parameter
+     * @return the value, never null
+     * @throws IllegalArgumentException if value is null
+     */
+    static <T> T nonNullValue(final T value, final Class<?> type, final int index) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null value at index " + index + " cannot be converted to " + type.getName());
+        }
+        return value;
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.table;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Event published to {@link RowListener}s after a test has been run with the values of a table row, with separate
+ * timings for value conversion, setup and test execution.
+ */
+public final class RowEvent {
+
+    /**
+     * Outcome of the test run with the row values.
+     */
+    public enum Outcome {
+        /** The test was successful */
+        SUCCESSFUL,
+        /** The test was aborted, for instance because an assumption failed */
+        ABORTED,
+        /** The test failed, or conversion or setup failed */
+        FAILED
+    }
+
+    private final String tableId;
+    private final String testName;
+    private final int rowIndex;
+    private final Map<String, String> keyValues;
+    private final Outcome outcome;
+    private final Throwable failure;
+    private final long conversionNanos;
+    private final long setupNanos;
+    private final long testNanos;
+
+    /**
+     * Constructor for row event.
+     *
+     * @param tableId           identifies the table, for instance the test class name for class level tables and
+     *                          test class and method name joined by {@code #} for method level tables
+     * @param testName          the display name of the test
+     * @param rowIndex          the index of the row in the table
+     * @param keyValues         the values of the key columns by column name
+     * @param outcome           the outcome of the test
+     * @param failureOrNull     the exception if the test failed or was aborted, or null
+     * @param conversionNanos   the time used to convert row values into test arguments in nanoseconds
+     * @param setupNanos        the time used for test setup in nanoseconds, for instance to create the test instance
+     *                          or to run before methods, excluding conversion time
+     * @param testNanos         the time used to run the test in nanoseconds, excluding conversion time
+     */
+    public RowEvent(final String tableId,
+                    final String testName,
+                    final int rowIndex,
+                    final Map<String, String> keyValues,
+                    final Outcome outcome,
+                    final Throwable failureOrNull,
+                    final long conversionNanos,
+                    final long setupNanos,
+                    final long testNanos) {
+        this.tableId = requireNonNull(tableId);
+        this.testName = requireNonNull(testName);
+        this.rowIndex = rowIndex;
+        this.keyValues = Collections.unmodifiableMap(new LinkedHashMap<>(keyValues));
+        this.outcome = requireNonNull(outcome);
+        this.failure = failureOrNull;
+        this.conversionNanos = conversionNanos;
+        this.setupNanos = setupNanos;
+        this.testNanos = testNanos;
+    }
+
+    public String tableId() {
+        return tableId;
+    }
+
+    public String testName() {
+        return testName;
+    }
+
+    public int rowIndex() {
+        return rowIndex;
+    }
+
+    public Map<String, String> keyValues() {
+        return keyValues;
+    }
+
+    public Outcome outcome() {
+        return outcome;
+    }
+
+    public Throwable failureOrNull() {
+        return failure;
+    }
+
+    public long conversionNanos() {
+        return conversionNanos;
+    }
+
+    public long setupNanos() {
+        return setupNanos;
+    }
+
+    public long testNanos() {
+        return testNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "RowEvent{" +
+                "tableId=" + tableId +
+                ", testName=" + testName +
+                ", rowIndex=" + rowIndex +
+                ", keyValues=" + keyValues +
+                ", outcome=" + outcome +
+                ", failure=" + failure +
+                ", conversionNanos=" + conversionNanos +
+                ", setupNanos=" + setupNanos +
+                ", testNanos=" + testNanos +
+                '}';
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.table;
+
+/**
+ * Listener notified with a {@link RowEvent} after a test has been run with the values of a table row.  Listeners can be
+ * registered as service via {@link java.util.ServiceLoader ServiceLoader}, or a {@link JsonLinesRowWriter} can be
+ * enabled via system property {@value RowListeners#EVENTS_FILE_PROPERTY}, see {@link RowListeners}.
+ * <p>
+ * Implementations must have a public no-args constructor if registered as service.  Listeners are invoked on the
+ * thread running the test, possibly concurrently for tests run in parallel;  implementations should hence be thread
+ * safe and return quickly.  Exceptions thrown by listeners are logged as warnings and do not affect the test outcome.
+ */
+@FunctionalInterface
+public interface RowListener {
+
+    /** Listener ignoring all events */
+    RowListener NOOP = event -> {};
+
+    /**
+     * Invoked after a test has been run with the values of a table row.
+     *
+     * @param event the event with row, outcome and timings of the test
+     */
+    void rowFinished(RowEvent event);
+}
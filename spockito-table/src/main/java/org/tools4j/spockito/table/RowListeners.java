@@ -0,0 +1,179 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.table;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Registry with the {@link RowListener}s notified by the test runners.  Listeners are loaded once per JVM via
+ * {@link ServiceLoader}, and a {@link JsonLinesRowWriter} is added if the system property
+ * {@value #EVENTS_FILE_PROPERTY} is defined.  Row events are only collected if at least one listener is registered.
+ * <p>
+ * Listeners that cannot be loaded or files that cannot be opened are skipped, and exceptions thrown by listeners are
+ * caught;  such failures are logged as warnings and do not affect the outcome of tests.
+ */
+public enum RowListeners {
+    ;
+
+    /**
+     * System property with the file that row events are written to as JSON lines;  the placeholder {@code {pid}} is
+     * replaced with the process ID, for instance if multiple test JVMs are used
+     */
+    public static final String EVENTS_FILE_PROPERTY = "spockito.events.file";
+    /** System property with comma separated key column names included in row events;  all columns by default */
+    public static final String KEY_COLUMNS_PROPERTY = "spockito.events.columns";
+
+    private static final Logger LOGGER = Logger.getLogger(RowListeners.class.getName());
+
+    private static final class Holder {
+        static volatile RowListener listener = listener(ServiceLoader.load(RowListener.class),
+                System.getProperty(EVENTS_FILE_PROPERTY, ""));
+        static final List<String> KEY_COLUMNS = keyColumns(System.getProperty(KEY_COLUMNS_PROPERTY, ""));
+    }
+
+    /**
+     * @return true if row events should be collected because at least one listener is registered
+     */
+    public static boolean isEnabled() {
+        return Holder.listener != RowListener.NOOP;
+    }
+
+    /**
+     * @return the listener notifying all registered listeners, or {@link RowListener#NOOP} if none is registered
+     */
+    public static RowListener listener() {
+        return Holder.listener;
+    }
+
+    /**
+     * Replaces the listener notified with row events, for instance to register a listener for some tests only.
+     *
+     * @param listener the new listener, or {@link RowListener#NOOP} to disable row events
+     * @return the previous listener
+     */
+    static RowListener replace(final RowListener listener) {
+        final RowListener previous = Holder.listener;
+        Holder.listener = requireNonNull(listener);
+        return previous;
+    }
+
+    /**
+     * Publishes the event to all registered listeners.  Exceptions thrown by listeners are logged and not propagated.
+     *
+     * @param event the event to publish
+     */
+    public static void publish(final RowEvent event) {
+        notify(Holder.listener, event);
+    }
+
+    private static void notify(final RowListener listener, final RowEvent event) {
+        try {
+            listener.rowFinished(event);
+        } catch (final Exception | AssertionError e) {
+            LOGGER.log(Level.WARNING, "Row listener " + listener + " failed for " + event, e);
+        }
+    }
+
+    /**
+     * Returns the values of the key columns of the given row, as defined via system property
+     * {@value #KEY_COLUMNS_PROPERTY}, or all row values if no key columns are defined.  Key columns missing in the row's
+     * table are ignored.
+     *
+     * @param row the table row
+     * @return the key column values by column name
+     */
+    public static Map<String, String> keyValues(final TableRow row) {
+        return keyValues(row, Holder.KEY_COLUMNS);
+    }
+
+    static Map<String, String> keyValues(final TableRow row, final List<String> keyColumns) {
+        if (keyColumns.isEmpty()) {
+            return row.toMap();
+        }
+        final Table table = row.getTable();
+        final Map<String, String> values = new LinkedHashMap<>();
+        for (final String column : keyColumns) {
+            if (table.hasColumn(column)) {
+                values.put(column, row.get(column));
+            }
+        }
+        return values;
+    }
+
+    static List<String> keyColumns(final String columns) {
+        if (columns.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<String> keyColumns = new ArrayList<>();
+        for (final String column : columns.split(",")) {
+            if (!column.trim().isEmpty()) {
+                keyColumns.add(column.trim());
+            }
+        }
+        return Collections.unmodifiableList(keyColumns);
+    }
+
+    static RowListener listener(final Iterable<? extends RowListener> services, final String eventsFile) {
+        final List<RowListener> listeners = new ArrayList<>();
+        try {
+            for (final RowListener listener : services) {
+                listeners.add(listener);
+            }
+        } catch (final ServiceConfigurationError e) {
+            LOGGER.log(Level.WARNING, "Loading row listener services failed, remaining services are ignored", e);
+        }
+        final String file = eventsFile.trim();
+        if (!file.isEmpty()) {
+            try {
+                final String pid = JsonLinesRowWriter.processId();
+                listeners.add(JsonLinesRowWriter.open(Paths.get(file.replace("{pid}", pid))));
+            } catch (final RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Row events are not written to file " + file, e);
+            }
+        }
+        if (listeners.isEmpty()) {
+            return RowListener.NOOP;
+        }
+        if (listeners.size() == 1) {
+            return listeners.get(0);
+        }
+        final RowListener[] all = listeners.toArray(new RowListener[0]);
+        return event -> {
+            for (final RowListener listener : all) {
+                notify(listener, event);
+            }
+        };
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.table;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Assigns table rows to shards so that the rows of large tables can be distributed across JVMs or CI nodes.  A row is
+ * assigned to a shard using a stable hash of the row content or the row index;  the assignment is deterministic and
+ * independent of the JVM.  Sharding is usually configured via system properties, see {@link #fromSystemProperties()}.
+ * Rows outside of the shard are skipped before any value conversion takes place.
+ */
+public final class Sharding implements Predicate<TableRow> {
+
+    /** System property with the zero based index of the shard to run, defaults to 0 */
+    public static final String SHARD_INDEX_PROPERTY = "spockito.shard.index";
+    /** System property with the total number of shards, defaults to 1 meaning that sharding is disabled */
+    public static final String SHARD_COUNT_PROPERTY = "spockito.shard.count";
+    /** System property defining how rows are assigned to shards, one of {@code content} (default) or {@code index} */
+    public static final String SHARD_BY_PROPERTY = "spockito.shard.by";
+
+    /** Sharding with a single shard that includes all rows */
+    public static final Sharding NONE = new Sharding(0, 1, By.CONTENT);
+
+    /**
+     * Defines how rows are assigned to shards.
+     */
+    public enum By {
+        /**
+         * Assigns rows by hash of the row values;  the shard of a row is stable if rows are added, removed or
+         * reordered, identical rows are assigned to the same shard
+         */
+        CONTENT,
+        /** Assigns rows round robin by row index which balances the shards evenly */
+        INDEX
+    }
+
+    private final int index;
+    private final int count;
+    private final By by;
+
+    public Sharding(final int index, final int count, final By by) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive: " + count);
+        }
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Shard index must be in [0, " + (count - 1) + "]: " + index);
+        }
+        this.index = index;
+        this.count = count;
+        this.by = Objects.requireNonNull(by);
+    }
+
+    /**
+     * Returns the sharding defined by the system properties {@link #SHARD_INDEX_PROPERTY},
+     * {@link #SHARD_COUNT_PROPERTY} and {@link #SHARD_BY_PROPERTY}, or {@link #NONE} if no shard count is defined.
+     *
+     * @return the sharding defined through system properties
+     * @throws IllegalArgumentException if a system property value is invalid
+     */
+    public static Sharding fromSystemProperties() {
+        final int count = intProperty(SHARD_COUNT_PROPERTY, 1);
+        if (count == 1) {
+            return NONE;
+        }
+        final int index = intProperty(SHARD_INDEX_PROPERTY, 0);
+        final String by = System.getProperty(SHARD_BY_PROPERTY, By.CONTENT.name());
+        try {
+            return new Sharding(index, count, By.valueOf(by.trim().toUpperCase(Locale.ROOT)));
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid sharding defined by system properties " + SHARD_INDEX_PROPERTY +
+                    "=" + index + ", " + SHARD_COUNT_PROPERTY + "=" + count + ", " + SHARD_BY_PROPERTY + "=" + by, e);
+        }
+    }
+
+    private static int intProperty(final String name, final int defaultValue) {
+        final String value = System.getProperty(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for system property " + name + ": " + value, e);
+        }
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public By by() {
+        return by;
+    }
+
+    /**
+     * @return true if there is more than one shard, and false if all rows are included
+     */
+    public boolean isSharded() {
+        return count > 1;
+    }
+
+    /**
+     * Returns true if the given row belongs to this shard.
+     *
+     * @param row the table row
+     * @return true if the row is included in this shard
+     */
+    @Override
+    public boolean test(final TableRow row) {
+        return count == 1 || shardOf(row) == index;
+    }
+
+    /**
+     * Returns the index of the shard that the given row is assigned to.
+     *
+     * @param row the table row
+     * @return the shard index for the row, a value in {@code [0, count-1]}
+     */
+    public int shardOf(final TableRow row) {
+        if (by == By.INDEX) {
+            return Math.floorMod(row.getRowIndex(), count);
+        }
+        return Math.floorMod(mix(contentHash(row.toList())), count);
+    }
+
+    private static int contentHash(final List<String> values) {
+        //String.hashCode() is specified and hence stable across JVMs
+        int hash = values.size();
+        for (final String value : values) {
+            hash = 31 * hash + (value == null ? 0 : value.hashCode());
+        }
+        return hash;
+    }
+
+    private static int mix(int hash) {
+        //murmur3 finalizer to spread similar row values across shards
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "Sharding{index=" + index + ", count=" + count + ", by=" + by + "}";
+    }
+}
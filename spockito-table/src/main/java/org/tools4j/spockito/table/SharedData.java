@@ -0,0 +1,320 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.table;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * Provides data via {@link DataProvider} and shares it according to the {@link DataScope} if the provider declares the
+ * data as {@linkplain DataProvider#isDataShareable(InjectionContext) shareable}.  Shared data is handed out as
+ * unmodifiable view or as defensive copy;  data that cannot be shared this way is provided for every injection.
+ */
+final class SharedData {
+
+    private static final ClassValue<ConcurrentMap<AnnotatedElement, SharedValue>> CLASS_VALUES =
+            new ClassValue<ConcurrentMap<AnnotatedElement, SharedValue>>() {
+                @Override
+                protected ConcurrentMap<AnnotatedElement, SharedValue> computeValue(final Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+    /**
+     * JVM scoped values keyed by data provider class, target type and annotations of the annotated element.  The values
+     * are associated with a representative class of the class loader that loaded the declaring class of the annotated
+     * element.  The values reference the declaring class and its loader only from within the representative class,
+     * hence they are released together with the test class loader instead of pinning it for the life time of the JVM,
+     * which would happen if they were associated with a library class such as {@link TableDataProvider}.
+     */
+    private static final ClassValue<ConcurrentMap<List<Object>, SharedValue>> JVM_VALUES =
+            new ClassValue<ConcurrentMap<List<Object>, SharedValue>>() {
+                @Override
+                protected ConcurrentMap<List<Object>, SharedValue> computeValue(final Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+    /** Representative class per class loader;  neither loader nor class is strongly referenced */
+    private static final Map<ClassLoader, WeakReference<Class<?>>> LOADER_CLASSES = new WeakHashMap<>();
+
+    private SharedData() {
+        throw new RuntimeException("No SharedData for you!");
+    }
+
+    /**
+     * Provides the data for the given context, either shared or invoking the data provider.
+     *
+     * @param dataProvider  the data provider
+     * @param context       the injection context
+     * @return the data, a view of shared data or the data provided by data provider
+     */
+    static Object provideData(final DataProvider dataProvider, final InjectionContext context) {
+        if (!dataProvider.isDataShareable(context)) {
+            return dataProvider.provideData(context);
+        }
+        final SharedValue sharedValue = sharedValueOrNull(dataProvider, context, dataProvider.scope(context));
+        return sharedValue == null ? dataProvider.provideData(context) : sharedValue.get(dataProvider, context);
+    }
+
+    /**
+     * Provides the data for a method parameter annotated with a {@linkplain Data @Data} provider.  Parameter data does
+     * not depend on the table row passed to the method, hence it is computed once per parameter and shared for all
+     * rows if the data provider declares the data as {@linkplain DataProvider#isDataShareable(InjectionContext)
+     * shareable}.  With the default {@link DataScope#INSTANCE INSTANCE} scope, every row receives a defensive copy of
+     * mutable collections, maps and arrays, and with {@link DataScope#CLASS CLASS} or {@link DataScope#JVM JVM} scope
+     * an unmodifiable view.  Elements of collections, maps and arrays are shared in both cases.
+     *
+     * @param dataProvider  the data provider
+     * @param context       the injection context with the parameter as annotated element
+     * @return the data, a view of shared data or the data provided by data provider
+     */
+    static Object provideParameterData(final DataProvider dataProvider, final InjectionContext context) {
+        if (!dataProvider.isDataShareable(context)) {
+            return dataProvider.provideData(context);
+        }
+        final DataScope scope = dataProvider.scope(context);
+        final SharedValue sharedValue = scope == DataScope.INSTANCE ?
+                sharedValueOrNull(dataProvider, context, DataScope.CLASS, true) :
+                sharedValueOrNull(dataProvider, context, scope, false);
+        return sharedValue == null ? dataProvider.provideData(context) : sharedValue.get(dataProvider, context);
+    }
+
+    private static SharedValue sharedValueOrNull(final DataProvider dataProvider,
+                                                 final InjectionContext context,
+                                                 final DataScope scope) {
+        return sharedValueOrNull(dataProvider, context, scope, false);
+    }
+
+    private static SharedValue sharedValueOrNull(final DataProvider dataProvider,
+                                                 final InjectionContext context,
+                                                 final DataScope scope,
+                                                 final boolean copyMutable) {
+        final AnnotatedElement element = context.annotatedElement();
+        switch (scope) {
+            case CLASS: {
+                final Class<?> declaringClass = SpockitoAnnotations.declaringClassOrNull(element);
+                return declaringClass == null ? null :
+                        CLASS_VALUES.get(declaringClass).computeIfAbsent(element, k -> new SharedValue(copyMutable));
+            }
+            case JVM:
+                return jvmValues(dataProvider, element).computeIfAbsent(jvmKey(dataProvider, element),
+                        k -> new SharedValue(copyMutable));
+            default:
+                return null;
+        }
+    }
+
+    private static ConcurrentMap<List<Object>, SharedValue> jvmValues(final DataProvider dataProvider,
+                                                                     final AnnotatedElement element) {
+        final Class<?> declaringClass = SpockitoAnnotations.declaringClassOrNull(element);
+        if (declaringClass == null) {
+            return JVM_VALUES.get(dataProvider.getClass());
+        }
+        final ClassLoader classLoader = declaringClass.getClassLoader();
+        if (classLoader == null) {
+            return JVM_VALUES.get(declaringClass);
+        }
+        Class<?> representative;
+        synchronized (LOADER_CLASSES) {
+            final WeakReference<Class<?>> reference = LOADER_CLASSES.get(classLoader);
+            representative = reference == null ? null : reference.get();
+            if (representative == null) {
+                //classes are only unloaded with their loader, hence the reference is cleared only with the loader
+                representative = declaringClass;
+                LOADER_CLASSES.put(classLoader, new WeakReference<>(representative));
+            }
+        }
+        return JVM_VALUES.get(representative);
+    }
+
+    private static List<Object> jvmKey(final DataProvider dataProvider, final AnnotatedElement element) {
+        final Type targetType = targetGenericTypeOrNull(element);
+        if (targetType == null) {
+            return Collections.singletonList(element);
+        }
+        return Arrays.asList(dataProvider.getClass(), targetType, Arrays.asList(element.getAnnotations()));
+    }
+
+    private static Class<?> targetTypeOrNull(final AnnotatedElement element) {
+        if (element instanceof Field) {
+            return ((Field)element).getType();
+        }
+        if (element instanceof Parameter) {
+            return ((Parameter)element).getType();
+        }
+        return null;
+    }
+
+    private static Type targetGenericTypeOrNull(final AnnotatedElement element) {
+        if (element instanceof Field) {
+            return ((Field)element).getGenericType();
+        }
+        if (element instanceof Parameter) {
+            return ((Parameter)element).getParameterizedType();
+        }
+        return null;
+    }
+
+    /**
+     * Returns a view or a defensive copy of the given value assignable to the target type, or null if value cannot be
+     * shared.  Values are returned as is if they are immutable, or if there is no target type, such as for method
+     * arguments that are not exposed to the data consumer.
+     */
+    private static Object viewOrNull(final Object value, final Class<?> targetType) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Stream || value instanceof Iterator) {
+            return null;
+        }
+        if (targetType == null || Immutables.isImmutable(value)) {
+            return value;
+        }
+        final Object view = unmodifiableViewOrNull(value);
+        return view != null && targetType.isInstance(view) ? view : null;
+    }
+
+    /**
+     * Returns the given value if it is immutable, or otherwise a shallow copy of the given array, collection or map
+     * assignable to the target type, or null if value cannot be copied.
+     */
+    private static Object copyOrNull(final Object value, final Class<?> targetType) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Stream || value instanceof Iterator) {
+            return null;
+        }
+        if (targetType == null || Immutables.isImmutable(value)) {
+            return value;
+        }
+        final Object copy = shallowCopyOrNull(value);
+        return copy != null && targetType.isInstance(copy) ? copy : null;
+    }
+
+    private static Object shallowCopyOrNull(final Object value) {
+        if (value.getClass().isArray()) {
+            final int length = Array.getLength(value);
+            final Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return copy;
+        }
+        if (value instanceof Cloneable && (value instanceof Collection || value instanceof Map)) {
+            //JDK collections and maps such as ArrayList or TreeMap have a public clone method copying the container
+            try {
+                return value.getClass().getMethod("clone").invoke(value);
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object unmodifiableViewOrNull(final Object value) {
+        if (value.getClass().isArray()) {
+            return value instanceof Object[] ? ((Object[])value).clone() : null;
+        }
+        if (value instanceof List) {
+            return Collections.unmodifiableList((List<Object>)value);
+        }
+        if (value instanceof NavigableSet) {
+            return Collections.unmodifiableNavigableSet((NavigableSet<Object>)value);
+        }
+        if (value instanceof SortedSet) {
+            return Collections.unmodifiableSortedSet((SortedSet<Object>)value);
+        }
+        if (value instanceof Set) {
+            return Collections.unmodifiableSet((Set<Object>)value);
+        }
+        if (value instanceof Collection) {
+            return Collections.unmodifiableCollection((Collection<Object>)value);
+        }
+        if (value instanceof NavigableMap) {
+            return Collections.unmodifiableNavigableMap((NavigableMap<Object, Object>)value);
+        }
+        if (value instanceof SortedMap) {
+            return Collections.unmodifiableSortedMap((SortedMap<Object, Object>)value);
+        }
+        if (value instanceof Map) {
+            return Collections.unmodifiableMap((Map<Object, Object>)value);
+        }
+        return null;
+    }
+
+    /**
+     * Value provided once and shared afterwards, or provided for every injection if it cannot be shared.  Mutable
+     * values are shared as defensive copy if so requested, and as unmodifiable view otherwise.
+     */
+    private static final class SharedValue {
+        private final boolean copyMutable;
+        private Object value;
+        private boolean provided;
+        private boolean shareable;
+
+        SharedValue(final boolean copyMutable) {
+            this.copyMutable = copyMutable;
+        }
+
+        Object get(final DataProvider dataProvider, final InjectionContext context) {
+            final Class<?> targetType = targetTypeOrNull(context.annotatedElement());
+            synchronized (this) {
+                if (!provided) {
+                    final Object data = dataProvider.provideData(context);
+                    final Object view = shareableViewOrNull(data, targetType);
+                    value = view == null ? null : data;
+                    shareable = view != null;
+                    provided = true;
+                    return view == null ? data : view;
+                }
+                if (shareable) {
+                    return shareableViewOrNull(value, targetType);
+                }
+            }
+            return dataProvider.provideData(context);
+        }
+
+        private Object shareableViewOrNull(final Object data, final Class<?> targetType) {
+            return copyMutable ? copyOrNull(data, targetType) : viewOrNull(data, targetType);
+        }
+    }
+}
@@ -23,16 +23,31 @@
  */
 package org.tools4j.spockito.table;
 
-import org.tools4j.spockito.table.InjectionContext.Phase;
+import org.tools4j.spockito.table.InjectionPlan.DataField;
+import org.tools4j.spockito.table.InjectionPlan.DataMethod;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 
@@ -42,29 +57,78 @@ import static java.util.Objects.requireNonNull;
 public enum SpockitoAnnotations {
     ;
 
+    /**
+     * System property to enable parallel initialisation in {@link #initData(Object)} and
+     * {@link #initStaticData(Class)}, for instance {@code -Dspockito.data.parallel=true}.  Data providers are then
+     * evaluated concurrently in the {@link ForkJoinPool#commonPool() common pool}.
+     */
+    public static final String PARALLEL_PROPERTY = "spockito.data.parallel";
+
+    private static final Object NOT_APPLICABLE = new Object();
+
     /**
      * Initialises fields and invokes methods of the provided instance that are annotated with {@linkplain Data @Data}
-     * providers.
+     * providers.  Data providers are evaluated concurrently if the {@link #PARALLEL_PROPERTY} system property is set.
      *
      * @param instance the instance to initialise
      */
     public static void initData(final Object instance) {
         requireNonNull(instance);
+        if (isParallel()) {
+            initData(instance, instance.getClass(), ForkJoinPool.commonPool());
+            return;
+        }
         initDataFields(instance);
         invokeDataMethods(instance);
     }
 
+    /**
+     * Initialises fields and invokes methods of the provided instance that are annotated with {@linkplain Data @Data}
+     * providers.  Independent data providers are evaluated concurrently using the given executor;  fields are assigned
+     * and methods invoked in declaration order after all data providers have completed.
+     * <p>
+     * If data providers fail, the exception of the first failing member in injection order is thrown after all
+     * providers have completed, and exceptions of other failing members are added to it as suppressed exceptions.
+     *
+     * @param instance the instance to initialise
+     * @param executor the executor used to evaluate data providers
+     */
+    public static void initData(final Object instance, final Executor executor) {
+        requireNonNull(instance);
+        requireNonNull(executor);
+        initData(instance, instance.getClass(), executor);
+    }
+
     /**
      * Initialises static fields and invokes static methods of the provided class that are annotated with
-     * {@linkplain Data @Data} providers.
+     * {@linkplain Data @Data} providers.  Data providers are evaluated concurrently if the {@link #PARALLEL_PROPERTY}
+     * system property is set.
      *
      * @param clazz the class to initialise
      */
     public static void initStaticData(final Class<?> clazz) {
+        if (isParallel()) {
+            initData(null, clazz, ForkJoinPool.commonPool());
+            return;
+        }
         initDataFields(null, clazz);
         invokeDataMethods(null, clazz);
     }
 
+    /**
+     * Initialises static fields and invokes static methods of the provided class that are annotated with
+     * {@linkplain Data @Data} providers.  Independent data providers are evaluated concurrently using the given
+     * executor, see {@link #initData(Object, Executor)}.
+     *
+     * @param clazz     the class to initialise
+     * @param executor  the executor used to evaluate data providers
+     */
+    public static void initStaticData(final Class<?> clazz, final Executor executor) {
+        requireNonNull(clazz);
+        requireNonNull(executor);
+        initData(null, clazz, executor);
+    }
+
     /**
      * Initialises fields of the provided instance that are annotated with {@linkplain Data @Data} providers; annotated
      * methods are not invoked.
@@ -86,7 +150,8 @@ public enum SpockitoAnnotations {
     }
 
     /**
-     * Returns direct and indirect (meta) annotations on a given element.
+     * Returns direct and indirect (meta) annotations on a given element.  Results are memoised per element, and
+     * meta-annotations are resolved only once per annotation type.
      *
      * @param element           the annotated element
      * @param annotationClass   the type of annotation to look for
@@ -94,116 +159,310 @@ public enum SpockitoAnnotations {
      * @return the annotation if found on this element, or null if not found
      */
     public static <A extends Annotation> A annotationDirectOrMeta(final AnnotatedElement element, final Class<A> annotationClass) {
-        return annotationDirectOrMeta(element, annotationClass, new HashSet<>());
+        return annotationClass.cast(annotationsDirectOrMeta(element).get(annotationClass));
     }
 
-    private static <A extends Annotation> A annotationDirectOrMeta(final AnnotatedElement element,
-                                                                   final Class<A> annotationClass,
-                                                                   final Set<AnnotatedElement> visited) {
-        if (!visited.add(element)) {
-            return null;
+    /**
+     * Direct and meta annotations by annotation type, memoised per element in a map associated with the class declaring
+     * the element.
+     */
+    private static final ClassValue<Map<AnnotatedElement, Map<Class<? extends Annotation>, Annotation>>> ANNOTATIONS_BY_ELEMENT =
+            new ClassValue<Map<AnnotatedElement, Map<Class<? extends Annotation>, Annotation>>>() {
+                @Override
+                protected Map<AnnotatedElement, Map<Class<? extends Annotation>, Annotation>> computeValue(final Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /**
+     * Meta-annotation closure per annotation type with annotations in depth-first search order.
+     */
+    private static final ClassValue<Map<Class<? extends Annotation>, Annotation>> META_ANNOTATIONS =
+            new ClassValue<Map<Class<? extends Annotation>, Annotation>>() {
+                @Override
+                protected Map<Class<? extends Annotation>, Annotation> computeValue(final Class<?> type) {
+                    final Map<Class<? extends Annotation>, Annotation> metaAnnotations = new LinkedHashMap<>();
+                    addMetaAnnotations(type, metaAnnotations, new HashSet<>());
+                    return metaAnnotations.isEmpty() ? Collections.emptyMap() : metaAnnotations;
+                }
+            };
+
+    private static Map<Class<? extends Annotation>, Annotation> annotationsDirectOrMeta(final AnnotatedElement element) {
+        final Class<?> declaringClass = declaringClassOrNull(element);
+        if (declaringClass == null) {
+            return resolveAnnotationsDirectOrMeta(element);
         }
-        final A annotation = element.getAnnotation(annotationClass);
-        if (annotation != null) {
-            return annotation;
+        final Map<AnnotatedElement, Map<Class<? extends Annotation>, Annotation>> cache = ANNOTATIONS_BY_ELEMENT.get(declaringClass);
+        final Map<Class<? extends Annotation>, Annotation> annotations = cache.get(element);
+        if (annotations != null) {
+            return annotations;
         }
-        for (final Annotation otherAnnotation : element.getAnnotations()) {
-            final Class<? extends Annotation> annotationType = otherAnnotation.annotationType();
-            final A indirectAnnotation = annotationDirectOrMeta(annotationType, annotationClass, visited);
-            if (indirectAnnotation != null) {
-                return indirectAnnotation;
-            }
+        final Map<Class<? extends Annotation>, Annotation> resolved = resolveAnnotationsDirectOrMeta(element);
+        cache.putIfAbsent(element, resolved);
+        return resolved;
+    }
+
+    private static Map<Class<? extends Annotation>, Annotation> resolveAnnotationsDirectOrMeta(final AnnotatedElement element) {
+        final Annotation[] annotations = element.getAnnotations();
+        if (annotations.length == 0) {
+            return Collections.emptyMap();
         }
-        return null;
+        final Map<Class<? extends Annotation>, Annotation> result = new HashMap<>();
+        for (final Annotation annotation : annotations) {
+            result.putIfAbsent(annotation.annotationType(), annotation);
+        }
+        for (final Annotation annotation : annotations) {
+            META_ANNOTATIONS.get(annotation.annotationType()).forEach(result::putIfAbsent);
+        }
+        return result;
     }
 
-    private static void initDataFields(final Object instance, final Class<?> clazz) {
-        if (clazz == null || clazz == Object.class) {
+    private static void addMetaAnnotations(final Class<?> annotationType,
+                                           final Map<Class<? extends Annotation>, Annotation> metaAnnotations,
+                                           final Set<Class<?>> visited) {
+        if (!visited.add(annotationType)) {
             return;
         }
-        for (final Field field : clazz.getDeclaredFields()) {
-            final Data data = annotationDirectOrMeta(field, Data.class);
-            if (data != null && (instance == null) == (Modifier.isStatic(field.getModifiers()))) {
-                initDataField(instance, field, data);
-            }
+        final Annotation[] annotations = annotationType.getAnnotations();
+        for (final Annotation annotation : annotations) {
+            metaAnnotations.putIfAbsent(annotation.annotationType(), annotation);
+        }
+        for (final Annotation annotation : annotations) {
+            addMetaAnnotations(annotation.annotationType(), metaAnnotations, visited);
         }
-        initDataFields(instance, clazz.getSuperclass());
     }
 
-    private static void invokeDataMethods(final Object instance, final Class<?> clazz) {
-        if (clazz == null || clazz == Object.class) {
-            return;
+    static Class<?> declaringClassOrNull(final AnnotatedElement element) {
+        if (element instanceof Class) {
+            return (Class<?>)element;
+        }
+        if (element instanceof Member) {
+            return ((Member)element).getDeclaringClass();
+        }
+        if (element instanceof Parameter) {
+            return ((Parameter)element).getDeclaringExecutable().getDeclaringClass();
         }
-        for (final Method method : clazz.getDeclaredMethods()) {
-            final Data data = annotationDirectOrMeta(method, Data.class);
-            if (data != null && (instance == null) == (Modifier.isStatic(method.getModifiers()))) {
-                invokeDataMethod(instance, method, data);
+        return null;
+    }
+
+    private static boolean isParallel() {
+        return Boolean.getBoolean(PARALLEL_PROPERTY);
+    }
+
+    private static void initData(final Object instance, final Class<?> clazz, final Executor executor) {
+        final InjectionPlan plan = InjectionPlan.forClass(clazz);
+        final List<DataField> dataFields = plan.fields(instance == null);
+        final List<DataMethod> dataMethods = plan.methods(instance == null);
+        final List<CompletableFuture<Object>> fieldValues = new ArrayList<>(dataFields.size());
+        final List<CompletableFuture<Object>> methodValues = new ArrayList<>(dataMethods.size());
+        for (final DataField dataField : dataFields) {
+            fieldValues.add(CompletableFuture.supplyAsync(() -> provideFieldValue(instance, dataField), executor));
+        }
+        for (final DataMethod dataMethod : dataMethods) {
+            //materialise lazy rows so that conversion is performed in parallel, too
+            methodValues.add(CompletableFuture.supplyAsync(() -> materialise(provideMethodValues(instance, dataMethod)), executor));
+        }
+        //join barrier: wait for all, then fail with first failure in injection order
+        RuntimeException failure = null;
+        for (final CompletableFuture<?> future : fieldValues) {
+            failure = joinOrAddFailure(future, failure);
+        }
+        for (final CompletableFuture<?> future : methodValues) {
+            failure = joinOrAddFailure(future, failure);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        for (int i = 0; i < dataFields.size(); i++) {
+            assignField(instance, dataFields.get(i), fieldValues.get(i).join());
+        }
+        for (int i = 0; i < dataMethods.size(); i++) {
+            invokeMethod(instance, dataMethods.get(i), methodValues.get(i).join());
+        }
+    }
+
+    private static RuntimeException joinOrAddFailure(final CompletableFuture<?> future, final RuntimeException failure) {
+        try {
+            future.join();
+            return failure;
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (failure == null) {
+                return cause instanceof RuntimeException ? (RuntimeException)cause :
+                        new SpockitoException("Data initialisation failed", cause);
             }
+            failure.addSuppressed(cause);
+            return failure;
+        }
+    }
+
+    private static void initDataFields(final Object instance, final Class<?> clazz) {
+        for (final DataField dataField : InjectionPlan.forClass(clazz).fields(instance == null)) {
+            assignField(instance, dataField, provideFieldValue(instance, dataField));
+        }
+    }
+
+    private static void invokeDataMethods(final Object instance, final Class<?> clazz) {
+        for (final DataMethod dataMethod : InjectionPlan.forClass(clazz).methods(instance == null)) {
+            invokeMethod(instance, dataMethod, provideMethodValues(instance, dataMethod));
         }
-        invokeDataMethods(instance, clazz.getSuperclass());
     }
 
-    private static void initDataField(final Object instance, final Field field, final Data data) {
-        final boolean accessible = field.isAccessible();
+    /**
+     * Returns the value for the data field, or {@link #NOT_APPLICABLE} if the data provider is not applicable.
+     */
+    private static Object provideFieldValue(final Object instance, final DataField dataField) {
         try {
-            final DataProvider dataProvider = data.value().newInstance();
-            final InjectionContext context = InjectionContext.create(Phase.INIT, field);
+            final DataProvider dataProvider = DataProvider.create(dataField.data.value());
+            final InjectionContext context = dataField.context;
             if (!dataProvider.applicable(context)) {
-                return;
+                return NOT_APPLICABLE;
             }
-            final Object value = dataProvider.provideData(context);
-            if (!accessible) {
-                field.setAccessible(true);
-            }
-            field.set(instance, value);
+            return SharedData.provideData(dataProvider, context);
+        } catch (final Exception e) {
+            throw new SpockitoException("Cannot assign field " + instance + "." + dataField.field.getName(), e);
+        }
+    }
+
+    private static void assignField(final Object instance, final DataField dataField, final Object providedValue) {
+        if (providedValue == NOT_APPLICABLE) {
+            return;
+        }
+        final Field field = dataField.field;
+        try {
+            field.set(instance, providedValue);
         } catch (final Exception e) {
             throw new SpockitoException("Cannot assign field " + instance + "." + field.getName(), e);
-        } finally {
-            if (field.isAccessible() != accessible) {
-                field.setAccessible(accessible);
-            }
         }
     }
 
-    private static void invokeDataMethod(final Object instance, final Method method, final Data data) {
-        final boolean accessible = method.isAccessible();
-        Object rowValues = null;
+    /**
+     * Returns the row values for the data method, or null if the data provider is not applicable.  Row values are
+     * returned as provided, that is, as {@code Object[]}, {@code Stream}, {@code Iterator} or {@code Iterable}.
+     */
+    private static Object provideMethodValues(final Object instance, final DataMethod dataMethod) {
+        final Method method = dataMethod.method;
         try {
-            final DataProvider dataProvider = data.value().newInstance();
-            final InjectionContext context = InjectionContext.create(Phase.INIT, method);
+            final DataProvider dataProvider = DataProvider.create(dataMethod.data.value());
+            final InjectionContext context = dataMethod.context;
             if (!dataProvider.applicable(context)) {
-                return;
+                return null;
+            }
+            final Object value = isLazyTableData(dataProvider, context) ?
+                    ((TableDataProvider)dataProvider).provideRowStream(context) :
+                    SharedData.provideData(dataProvider, context);
+            if (!(value instanceof Object[] || value instanceof Stream || value instanceof Iterator || value instanceof Iterable)) {
+                throw new SpockitoException("Data provider " + dataProvider + " should return an array, stream, iterator " +
+                        "or iterable of values for method " + method + " on instance " + instance + " but it returned " + value);
             }
-            final Object value = dataProvider.provideData(context);
-            if (!(value instanceof Object[])) {
-                throw new SpockitoException("Data provider " + dataProvider + " should return an array of values for method " +
-                        method + " on instance " + instance + " but it returned " + value);
+            return value;
+        } catch (final Exception e) {
+            throw new SpockitoException("Cannot invoke method " + method + " on instance " + instance +
+                    " with arguments null", e);
+        }
+    }
+
+    /**
+     * Returns true if rows of the table data provider can be converted lazily, which is the case if the rows are not
+     * shared because of the default {@link DataScope#INSTANCE INSTANCE} scope, and if the provider does not override
+     * {@code provideData(..)} methods, for instance to filter or add rows.
+     */
+    private static boolean isLazyTableData(final DataProvider dataProvider, final InjectionContext context) {
+        return dataProvider instanceof TableDataProvider && dataProvider.scope(context) == DataScope.INSTANCE &&
+                !isProvideDataOverridden(dataProvider.getClass());
+    }
+
+    private static boolean isProvideDataOverridden(final Class<?> providerClass) {
+        try {
+            return providerClass.getMethod("provideData", InjectionContext.class)
+                    .getDeclaringClass() != TableDataProvider.class ||
+                    providerClass.getMethod("provideData", InjectionContext.class, Table.class, ValueConverter.class)
+                            .getDeclaringClass() != TableDataProvider.class;
+        } catch (final NoSuchMethodException e) {
+            throw new IllegalStateException("Method provideData(..) not found in " + providerClass, e);
+        }
+    }
+
+    private static Object materialise(final Object rowData) {
+        if (rowData instanceof Stream) {
+            try (final Stream<?> stream = (Stream<?>)rowData) {
+                return stream.toArray();
             }
-            final Object[] rowData = (Object[])value;
-            if (!accessible) {
-                method.setAccessible(true);
+        }
+        if (rowData instanceof Iterator) {
+            final List<Object> rows = new ArrayList<>();
+            ((Iterator<?>)rowData).forEachRemaining(rows::add);
+            return rows.toArray();
+        }
+        return rowData;
+    }
+
+    private static void invokeMethod(final Object instance, final DataMethod dataMethod, final Object rowData) {
+        if (rowData == null) {
+            return;
+        }
+        if (rowData instanceof Stream) {
+            try (final Stream<?> stream = (Stream<?>)rowData) {
+                invokeMethod(instance, dataMethod, stream.iterator());
             }
-            for (final Object rowVals : rowData) {
-                rowValues = rowVals;
-                switch (method.getParameterCount()) {
-                    case 0:
-                        method.invoke(instance);
-                        break;
-                    case 1:
-                        method.invoke(instance, rowVals);
-                        break;
-                    default:
-                        method.invoke(instance, (Object[]) rowVals);
-                        break;
+            return;
+        }
+        invokeMethod(instance, dataMethod, rowData instanceof Object[] ? Arrays.asList((Object[])rowData).iterator() :
+                rowData instanceof Iterable ? ((Iterable<?>)rowData).iterator() : (Iterator<?>)rowData);
+    }
+
+    private static void invokeMethod(final Object instance, final DataMethod dataMethod, final Iterator<?> rows) {
+        final Method method = dataMethod.method;
+        final int parameterCount = method.getParameterCount();
+        final Object[] args = new Object[parameterCount];
+        //table data providers always provide one argument array per row
+        final Class<?> parameterType = parameterCount == 1 &&
+                !TableDataProvider.class.isAssignableFrom(dataMethod.data.value()) ? method.getParameterTypes()[0] : null;
+        final Class<?> singleParameterType = parameterType != null && parameterType.isPrimitive() ?
+                Primitives.boxingTypeFor(parameterType) : parameterType;
+        while (true) {
+            final Object rowValues;
+            try {
+                //lazy rows are provided and converted here
+                if (!rows.hasNext()) {
+                    return;
                 }
+                rowValues = rows.next();
+            } catch (final Exception e) {
+                throw new SpockitoException("Cannot invoke method " + method + " on instance " + instance +
+                        " with arguments null", e);
             }
-        } catch (final Exception e) {
-            throw new SpockitoException("Cannot invoke method " + method + " on instance " + instance +
-                    " with arguments " + (rowValues instanceof Object[] ? Arrays.toString((Object[])rowValues) : rowValues), e);
-        } finally {
-            if (method.isAccessible() != accessible) {
-                method.setAccessible(accessible);
+            try {
+                dataMethod.invoke(instance, arguments(rowValues, args, singleParameterType));
+            } catch (final Exception e) {
+                throw new SpockitoException("Cannot invoke method " + method + " on instance " + instance +
+                        " with arguments " + (rowValues instanceof Object[] ? Arrays.toString((Object[])rowValues) : rowValues), e);
             }
         }
     }
+
+    /**
+     * Returns the row values as arguments array.  Rows of table data providers and rows for methods with multiple
+     * parameters are always arguments arrays.  Other rows for a single parameter method are passed as argument via
+     * reused args array, unless the row is an {@code Object[]} not assignable to the parameter type;  hence covariant
+     * arrays such as {@code String[]} are never taken for an arguments array.
+     *
+     * @param rowValues             the row values
+     * @param args                  the reused args array with one element per parameter
+     * @param singleParameterType   the boxed single parameter type, or null if rows are always argument arrays
+     * @return the arguments for the method invocation
+     */
+    private static Object[] arguments(final Object rowValues, final Object[] args, final Class<?> singleParameterType) {
+        if (args.length == 0) {
+            return args;
+        }
+        if (args.length > 1 || singleParameterType == null) {
+            return (Object[])rowValues;
+        }
+        if (rowValues != null && rowValues.getClass() == Object[].class && !singleParameterType.isInstance(rowValues)) {
+            return (Object[])rowValues;
+        }
+        args[0] = rowValues;
+        return args;
+    }
 }
@@ -56,10 +56,15 @@ public class SpockitoTable implements Table {
     SpockitoTable(final List<String> headers, final List<List<String>> rows) {
         this.headers = new SpockitoTableRow(this, headers);
         for (final List<String> row : rows) {
-            data.add(new SpockitoTableRow(this, row));
+            addRow(new SpockitoTableRow(this, row));
         }
     }
 
+    private void addRow(final SpockitoTableRow row) {
+        row.rowIndex(data.size());
+        data.add(row);
+    }
+
     public int getColumnCount() {
         //null in constructor when parsing header row
         return headers == null ? 0 : headers.getColumnCount();
@@ -151,9 +156,9 @@ public class SpockitoTable implements Table {
         if (headerAndRows.length > 0) {
             final SpockitoTable table = new SpockitoTable(headerAndRows[0]);
             for (int i = 1; i < headerAndRows.length; i++) {
-                final TableRow tableRow = parseRow(table, i, headerAndRows[i]);
+                final SpockitoTableRow tableRow = parseRow(table, i, headerAndRows[i]);
                 if (!tableRow.isSeparatorRow()) {
-                    table.data.add(tableRow);
+                    table.addRow(tableRow);
                 }
             }
             return table;
@@ -161,12 +166,12 @@ public class SpockitoTable implements Table {
         return SpockitoTable.EMPTY;
     }
 
-    private static TableRow parseRow(final SpockitoTable table, final int row, final String rowString) {
+    private static SpockitoTableRow parseRow(final SpockitoTable table, final int row, final String rowString) {
         final String trimmed = rowString.trim();
         if (trimmed.length() < 2 || trimmed.charAt(0) != '|' || trimmed.charAt(trimmed.length() - 1) != '|') {
             throw new IllegalArgumentException("Invalid table data: row " + row + " must start and end with '|'");
         }
-        final TableRow tableRow = SpockitoTableRow.parse(table, trimmed);
+        final SpockitoTableRow tableRow = SpockitoTableRow.parse(table, trimmed);
         if (row != 0) {
             if (tableRow.getColumnCount() > table.getColumnCount()) {
                 throw new IllegalArgumentException("Invalid table data: row " + row + " has more columns than header row: " + tableRow.getColumnCount() + " > " + table.getColumnCount());
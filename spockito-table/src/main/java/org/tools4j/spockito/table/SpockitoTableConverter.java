@@ -29,9 +29,14 @@ import org.tools4j.spockito.table.GenericTypes.ActualType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 import static org.tools4j.spockito.table.GenericTypes.actualTypeForTypeParam;
@@ -65,6 +70,24 @@ public class SpockitoTableConverter implements TableConverter {
     @Override
     public Object convert(final Table table) {
         requireNonNull(table);
+        if (Supplier.class.equals(targetClass)) {
+            final ActualType suppliedType = actualTypeForTypeParam(targetType, 0, 1);
+            return new LazyTableSupplier(table, new SpockitoTableConverter(suppliedType.rawType(), suppliedType.genericType(), valueConverter));
+        }
+        if (Stream.class.equals(targetClass)) {
+            final ActualType rowType = actualTypeForTypeParam(targetType, 0, 1);
+            return table.stream().map(row -> row.to(rowType.rawType(), rowType.genericType(), valueConverter));
+        }
+        if (Iterator.class.equals(targetClass)) {
+            final ActualType rowType = actualTypeForTypeParam(targetType, 0, 1);
+            return new LazyRowIterable(table, rowType, valueConverter).iterator();
+        }
+        if (Iterable.class.equals(targetClass) && targetType instanceof ParameterizedType) {
+            final ActualType rowType = actualTypeForTypeParam(targetType, 0, 1);
+            if (!rowType.rawType().isAssignableFrom(TableRow.class)) {
+                return new LazyRowIterable(table, rowType, valueConverter);
+            }
+        }
         if (targetClass.isInstance(table)) {
             return table;
         }
@@ -100,4 +123,87 @@ public class SpockitoTableConverter implements TableConverter {
         return array;
     }
 
+    /**
+     * Supplier converting the table into the supplied type on first access.
+     */
+    private static final class LazyTableSupplier implements Supplier<Object> {
+        private final Table table;
+        private final TableConverter tableConverter;
+        private volatile Object value;
+
+        LazyTableSupplier(final Table table, final TableConverter tableConverter) {
+            this.table = requireNonNull(table);
+            this.tableConverter = requireNonNull(tableConverter);
+        }
+
+        @Override
+        public Object get() {
+            Object result = value;
+            if (result == null) {
+                synchronized (this) {
+                    result = value;
+                    if (result == null) {
+                        value = result = tableConverter.convert(table);
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "LazyTableSupplier{table=" + table + ", converted=" + (value != null) + "}";
+        }
+    }
+
+    /**
+     * Iterable converting table rows on first access;  converted rows are memoised for subsequent iterations.
+     */
+    private static final class LazyRowIterable implements Iterable<Object> {
+        private final Table table;
+        private final ActualType rowType;
+        private final ValueConverter valueConverter;
+        private final Object[] rows;
+        private int convertedCount;
+
+        LazyRowIterable(final Table table, final ActualType rowType, final ValueConverter valueConverter) {
+            this.table = requireNonNull(table);
+            this.rowType = requireNonNull(rowType);
+            this.valueConverter = requireNonNull(valueConverter);
+            this.rows = new Object[table.getRowCount()];
+        }
+
+        private synchronized Object row(final int index) {
+            while (convertedCount <= index) {
+                rows[convertedCount] = table.getRow(convertedCount).to(rowType.rawType(), rowType.genericType(), valueConverter);
+                convertedCount++;
+            }
+            return rows[index];
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new Iterator<Object>() {
+                int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < rows.length;
+                }
+
+                @Override
+                public Object next() {
+                    if (index >= rows.length) {
+                        throw new NoSuchElementException();
+                    }
+                    return row(index++);
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            return "LazyRowIterable{table=" + table + ", rowType=" + rowType.genericType().getTypeName() + "}";
+        }
+    }
 }
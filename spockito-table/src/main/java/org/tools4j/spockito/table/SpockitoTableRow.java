@@ -39,8 +39,11 @@ import static org.tools4j.spockito.table.Strings.UNESCAPED_PIPE;
 
 public class SpockitoTableRow implements TableRow {
 
+    private static final int UNKNOWN_ROW_INDEX = -2;
+
     private final Table table;
     private final List<String> values;
+    private int rowIndex = UNKNOWN_ROW_INDEX;
 
     public SpockitoTableRow(final Table table) {
         this(table, new ArrayList<>());
@@ -104,7 +107,17 @@ public class SpockitoTableRow implements TableRow {
 
     @Override
     public int getRowIndex() {
-        return table.getRowIndex(this);
+        return rowIndex == UNKNOWN_ROW_INDEX ? table.getRowIndex(this) : rowIndex;
+    }
+
+    /**
+     * Sets the row index when the row is added to a {@link SpockitoTable};  otherwise the row index is looked up in
+     * the table.
+     *
+     * @param rowIndex the index of this row in the table
+     */
+    void rowIndex(final int rowIndex) {
+        this.rowIndex = rowIndex;
     }
 
     @Override
@@ -42,6 +42,9 @@ public class SpockitoTableRowConverter implements TableRowConverter {
     private final Class<?> targetClass;
     private final Type targetType;
     private final ValueConverter valueConverter;
+    private final boolean row;
+    private final String columnNameOrNull;
+    private volatile ColumnIndex columnIndex;
 
     public SpockitoTableRowConverter(final InjectionContext dataSubContextOrNull,
                                      final AnnotatedElement annotatedElementOrNull,
@@ -57,6 +60,14 @@ public class SpockitoTableRowConverter implements TableRowConverter {
         this.targetClass = requireNonNull(targetClass);
         this.targetType = requireNonNull(targetType);
         this.valueConverter = requireNonNull(valueConverter);
+        this.row = annotatedElementOrNull != null && annotationDirectOrMeta(annotatedElementOrNull, Row.class) != null;
+        this.columnNameOrNull = columnNameOrNull(annotatedElementOrNull, nameOrNull);
+    }
+
+    private static String columnNameOrNull(final AnnotatedElement annotatedElementOrNull, final String nameOrNull) {
+        final Column column = annotatedElementOrNull == null ? null :
+                annotationDirectOrMeta(annotatedElementOrNull, Column.class);
+        return column != null ? column.value() : nameOrNull;
     }
 
     public static TableRowConverter create(final InjectionContext context, final Parameter parameter, final int index, final ValueConverter valueConverter) {
@@ -94,22 +105,14 @@ public class SpockitoTableRowConverter implements TableRowConverter {
         if (targetClass.isInstance(tableRow.getTable())) {
             return tableRow.getTable();
         }
-        String name = nameOrNull;
-        if (annotatedElementOrNull != null) {
-            final Row row = annotationDirectOrMeta(annotatedElementOrNull, Row.class);
-            if (row != null) {
-                if (int.class == targetClass) {
-                    return tableRow.getRowIndex();
-                }
-                return convert(tableRow.toMap().toString(), "row(" + tableRow.getRowIndex() + ")");
-            }
-            final Column column = annotationDirectOrMeta(annotatedElementOrNull, Column.class);
-            if (column != null) {
-                name = column.value();
+        if (row) {
+            if (int.class == targetClass) {
+                return tableRow.getRowIndex();
             }
+            return convert(tableRow.toMap().toString(), "row(" + tableRow.getRowIndex() + ")");
         }
-        if (name != null) {
-            return convert(valueByName(tableRow, name), name);
+        if (columnNameOrNull != null) {
+            return convert(valueByIndex(tableRow, columnIndex(tableRow.getTable(), columnNameOrNull)), columnNameOrNull);
         }
         if (index == -1) {
             return tableRow;
@@ -117,14 +120,19 @@ public class SpockitoTableRowConverter implements TableRowConverter {
         return convert(valueByIndex(tableRow, index), index);
     }
 
-    private String valueByName(final TableRow tableRow, final String name) {
-        final int column;
+    private int columnIndex(final Table table, final String name) {
+        final ColumnIndex cached = columnIndex;
+        if (cached != null && cached.table == table) {
+            return cached.index;
+        }
+        final int index;
         try {
-            column = tableRow.getTable().getColumnIndexByName(name);
+            index = table.getColumnIndexByName(name);
         } catch (final Exception e) {
             throw new IllegalArgumentException("Could not access table column " + name, e);
         }
-        return valueByIndex(tableRow, column);
+        columnIndex = new ColumnIndex(table, index);
+        return index;
     }
 
     private String valueByIndex(final TableRow tableRow, final int index) {
@@ -144,13 +152,26 @@ public class SpockitoTableRowConverter implements TableRowConverter {
         }
     }
 
+    /**
+     * Column index resolved by name for a table.
+     */
+    private static final class ColumnIndex {
+        final Table table;
+        final int index;
+
+        ColumnIndex(final Table table, final int index) {
+            this.table = table;
+            this.index = index;
+        }
+    }
+
     private static Object dataForAnnotatedElement(final AnnotatedElement element) {
         requireNonNull(element);
         final Data data = annotationDirectOrMeta(element, Data.class);
         try {
-            final DataProvider dataProvider = data.value().newInstance();
+            final DataProvider dataProvider = DataProvider.create(data.value());
             final InjectionContext context = InjectionContext.create(Phase.INIT, element);
-            return dataProvider.applicable(context) ? dataProvider.provideData(context) : null;
+            return dataProvider.applicable(context) ? SharedData.provideParameterData(dataProvider, context) : null;
         } catch (final Exception e) {
             throw new SpockitoException("Cannot provide data for " + element + " annotated with @"
                     + Data.class.getSimpleName() + " (or meta annotation)", e);
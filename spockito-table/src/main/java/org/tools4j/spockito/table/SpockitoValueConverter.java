@@ -23,6 +23,8 @@
  */
 package org.tools4j.spockito.table;
 
+import org.tools4j.spockito.table.GenericTypes.ActualType;
+
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -52,6 +54,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -64,7 +67,9 @@ import java.util.regex.Pattern;
  * Custom value converter implementations may want to extend this class and add additional converters by overriding
  * {@link #initConverterFunctions()}. Converters for single types can be registered via
  * {@link #registerConverterFunction(Class, Function)} and the more generic
- * {@link #registerConverter(BiPredicate, ValueConverter)}.
+ * {@link #registerConverter(BiPredicate, ValueConverter)}.  Subclasses overriding
+ * {@link #convert(Class, Type, String)} directly are also used for column conversions, the optimised column
+ * conversions of this class are only applied if {@code convert} is not overridden.
  */
 public class SpockitoValueConverter implements ValueConverter {
 
@@ -72,6 +77,8 @@ public class SpockitoValueConverter implements ValueConverter {
 
     private final Map<Class<?>, Function<? super String, ?>> convertersByType = new HashMap<>();
     private final List<Map.Entry<BiPredicate<Class<?>, ? super Type>, ValueConverter>> convertersByPredicate = new ArrayList<>();
+    private final Map<Object, ValueConverter> resolvedConverters = new ConcurrentHashMap<>();
+    private final boolean convertOverridden = isConvertOverridden(getClass());
 
     public SpockitoValueConverter() {
         initConverterFunctions();
@@ -82,15 +89,78 @@ public class SpockitoValueConverter implements ValueConverter {
         if (value == null || "null".equals(value)) {
             return null;
         }
-        final ValueConverter converter = valueConverterFor(type, genericType);
-        if (converter == null) {
-            throw new IllegalArgumentException("No value converter is defined for type " + typeName(type, genericType));
+        return convert(valueConverterOrFail(type, genericType), type, genericType, value);
+    }
+
+    @Override
+    public <T> List<T> convertColumn(final Class<T> type, final Type genericType, final List<String> values) {
+        if (convertOverridden) {
+            return ValueConverter.super.convertColumn(type, genericType, values);
         }
-        try {
-            return converter.convert(type, genericType, value);
-        } catch (final Exception e) {
-            throw new IllegalArgumentException("Conversion to " + typeName(type, genericType) + " failed for value: " + value, e);
+        final List<T> result = new ArrayList<>(values.size());
+        ValueConverter converter = null;
+        for (final String value : values) {
+            if (value == null || "null".equals(value)) {
+                result.add(null);
+                continue;
+            }
+            if (converter == null) {
+                converter = valueConverterOrFail(type, genericType);
+            }
+            result.add(convert(converter, type, genericType, value));
+        }
+        return result;
+    }
+
+    @Override
+    public int[] convertIntColumn(final List<String> values) {
+        if (convertOverridden || convertersByType.get(int.class) != Converters.INTEGER_CONVERTER) {
+            return ValueConverter.super.convertIntColumn(values);
+        }
+        final int[] result = new int[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            final String value = nonNullValue(values.get(i), int.class, i);
+            try {
+                result[i] = Integer.parseInt(value);
+            } catch (final Exception e) {
+                throw conversionFailed(int.class, int.class, value, e);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long[] convertLongColumn(final List<String> values) {
+        if (convertOverridden || convertersByType.get(long.class) != Converters.LONG_CONVERTER) {
+            return ValueConverter.super.convertLongColumn(values);
+        }
+        final long[] result = new long[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            final String value = nonNullValue(values.get(i), long.class, i);
+            try {
+                result[i] = Long.parseLong(value);
+            } catch (final Exception e) {
+                throw conversionFailed(long.class, long.class, value, e);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public double[] convertDoubleColumn(final List<String> values) {
+        if (convertOverridden || convertersByType.get(double.class) != Converters.DOUBLE_CONVERTER) {
+            return ValueConverter.super.convertDoubleColumn(values);
         }
+        final double[] result = new double[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            final String value = nonNullValue(values.get(i), double.class, i);
+            try {
+                result[i] = Double.parseDouble(value);
+            } catch (final Exception e) {
+                throw conversionFailed(double.class, double.class, value, e);
+            }
+        }
+        return result;
     }
 
     @Override
@@ -99,12 +169,54 @@ public class SpockitoValueConverter implements ValueConverter {
         return converter != null && converter.isMultiValueType(type, genericType);
     }
 
+    private static <T> T convert(final ValueConverter converter, final Class<T> type, final Type genericType, final String value) {
+        try {
+            return converter.convert(type, genericType, value);
+        } catch (final Exception e) {
+            throw conversionFailed(type, genericType, value, e);
+        }
+    }
+
+    private static boolean isConvertOverridden(final Class<?> converterClass) {
+        try {
+            return converterClass.getMethod("convert", Class.class, Type.class, String.class)
+                    .getDeclaringClass() != SpockitoValueConverter.class;
+        } catch (final NoSuchMethodException e) {
+            throw new IllegalStateException("Convert method not found in " + converterClass.getName(), e);
+        }
+    }
+
+    private static String nonNullValue(final String value, final Class<?> type, final int index) {
+        return Primitives.nonNullValue("null".equals(value) ? null : value, type, index);
+    }
+
+    private static IllegalArgumentException conversionFailed(final Class<?> type, final Type genericType, final String value, final Exception cause) {
+        return new IllegalArgumentException("Conversion to " + typeName(type, genericType) + " failed for value: " + value, cause);
+    }
+
+    private ValueConverter valueConverterOrFail(final Class<?> type, final Type genericType) {
+        final ValueConverter converter = valueConverterFor(type, genericType);
+        if (converter == null) {
+            throw new IllegalArgumentException("No value converter is defined for type " + typeName(type, genericType));
+        }
+        return converter;
+    }
+
     private ValueConverter valueConverterFor(final Class<?> type, final Type genericType) {
-        final ValueConverter converter = converterByTypeOrNull(type);
+        //non-generic types are keyed by class to avoid allocating a key for the common case
+        final Object key = genericType == null || genericType == type ? type : ActualType.create(type, genericType);
+        final ValueConverter resolved = resolvedConverters.get(key);
+        if (resolved != null) {
+            return resolved;
+        }
+        ValueConverter converter = converterByTypeOrNull(type);
+        if (converter == null) {
+            converter = converterByPredicateOrNull(type, genericType);
+        }
         if (converter != null) {
-            return converter;
+            resolvedConverters.put(key, converter);
         }
-        return converterByPredicateOrNull(type, genericType);
+        return converter;
     }
 
     /**
@@ -174,6 +286,7 @@ public class SpockitoValueConverter implements ValueConverter {
         if (type.isPrimitive()) {
             convertersByType.put(Primitives.boxingTypeFor(type), converter);
         }
+        resolvedConverters.clear();
     }
 
     /**
@@ -190,6 +303,7 @@ public class SpockitoValueConverter implements ValueConverter {
      */
     protected void registerConverter(final BiPredicate<Class<?>, ? super Type> applicable, final ValueConverter converter) {
         convertersByPredicate.add(new AbstractMap.SimpleImmutableEntry<>(applicable, converter));
+        resolvedConverters.clear();
     }
 
     private ValueConverter converterByTypeOrNull(final Class<?> type) {
@@ -24,6 +24,7 @@
 package org.tools4j.spockito.table;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -53,6 +54,50 @@ public interface Table extends Iterable<TableRow> {
     String getValue(int rowIndex, int columnIndex);
     String getValue(int rowIndex, String columnName);
 
+    default List<String> column(final String columnName) {
+        final int columnIndex = getColumnIndexByName(columnName);
+        final int rowCount = getRowCount();
+        final List<String> values = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            values.add(getValue(row, columnIndex));
+        }
+        return values;
+    }
+
+    default <T> List<T> column(final String columnName, final Class<T> type) {
+        return column(columnName, type, type, SpockitoValueConverter.DEFAULT_INSTANCE);
+    }
+
+    default <T> List<T> column(final String columnName, final Class<T> type, final Type genericType, final ValueConverter valueConverter) {
+        requireNonNull(type);
+        requireNonNull(valueConverter);
+        return valueConverter.convertColumn(type, genericType, column(columnName));
+    }
+
+    default int[] intColumn(final String columnName) {
+        return intColumn(columnName, SpockitoValueConverter.DEFAULT_INSTANCE);
+    }
+
+    default int[] intColumn(final String columnName, final ValueConverter valueConverter) {
+        return valueConverter.convertIntColumn(column(columnName));
+    }
+
+    default long[] longColumn(final String columnName) {
+        return longColumn(columnName, SpockitoValueConverter.DEFAULT_INSTANCE);
+    }
+
+    default long[] longColumn(final String columnName, final ValueConverter valueConverter) {
+        return valueConverter.convertLongColumn(column(columnName));
+    }
+
+    default double[] doubleColumn(final String columnName) {
+        return doubleColumn(columnName, SpockitoValueConverter.DEFAULT_INSTANCE);
+    }
+
+    default double[] doubleColumn(final String columnName, final ValueConverter valueConverter) {
+        return valueConverter.convertDoubleColumn(column(columnName));
+    }
+
     @Override
     Iterator<TableRow> iterator();
     default Stream<TableRow> stream() {
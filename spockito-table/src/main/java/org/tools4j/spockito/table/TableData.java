@@ -78,4 +78,12 @@ public @interface TableData {
      * @see SpockitoValueConverter
      */
     Class<? extends ValueConverter> valueConverter() default SpockitoValueConverter.class;
+
+    /**
+     * Scope of the converted data;  with scope {@link DataScope#CLASS CLASS} or {@link DataScope#JVM JVM}, data is
+     * converted only once and shared as unmodifiable view, for instance by all instances of a test class.
+     *
+     * @return the data scope, {@link DataScope#INSTANCE INSTANCE} by default
+     */
+    DataScope scope() default DataScope.INSTANCE;
 }
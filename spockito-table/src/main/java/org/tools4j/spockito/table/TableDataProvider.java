@@ -23,31 +23,53 @@
  */
 package org.tools4j.spockito.table;
 
+import org.tools4j.spockito.table.GenericTypes.ActualType;
+
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
+import static org.tools4j.spockito.table.SpockitoAnnotations.annotationDirectOrMeta;
 
 /**
  * Provides values defined by a {@link TableData @TableData} annotation.
  */
+@DataProvider.Stateless
 public class TableDataProvider implements DataProvider {
 
     private final Function<? super InjectionContext, ? extends Table> tableFactory;
     private final Function<? super InjectionContext, Class<? extends ValueConverter>> valueConverterTypeLookup;
+    private final Function<? super InjectionContext, DataScope> scopeLookup;
 
     @SuppressWarnings("unused") //used by @TableData
     public TableDataProvider() {
-        this(TableDataProvider::table, TableDataProvider::valueConverter);
+        this(TableDataProvider::table, TableDataProvider::valueConverter, TableDataProvider::dataScope);
     }
 
     public TableDataProvider(final Function<? super InjectionContext, ? extends Table> tableFactory,
                              final Function<? super InjectionContext, Class<? extends ValueConverter>> valueConverterTypeLookup) {
+        this(tableFactory, valueConverterTypeLookup, context -> DataScope.INSTANCE);
+    }
+
+    public TableDataProvider(final Function<? super InjectionContext, ? extends Table> tableFactory,
+                             final Function<? super InjectionContext, Class<? extends ValueConverter>> valueConverterTypeLookup,
+                             final Function<? super InjectionContext, DataScope> scopeLookup) {
         this.tableFactory = requireNonNull(tableFactory);
         this.valueConverterTypeLookup = requireNonNull(valueConverterTypeLookup);
+        this.scopeLookup = requireNonNull(scopeLookup);
     }
 
     private static Table table(final InjectionContext injectionContext) {
@@ -60,6 +82,11 @@ public class TableDataProvider implements DataProvider {
         return tableData.valueConverter();
     }
 
+    private static DataScope dataScope(final InjectionContext injectionContext) {
+        final TableData tableData = injectionContext.annotatedElement().getAnnotation(TableData.class);
+        return tableData.scope();
+    }
+
     public Table provideTable(final InjectionContext context) {
         return tableFactory.apply(context);
     }
@@ -68,6 +95,29 @@ public class TableDataProvider implements DataProvider {
         return ValueConverter.create(valueConverterTypeLookup.apply(context));
     }
 
+    /**
+     * Returns true since table data is converted into new values every time and can hence be shared.
+     *
+     * @param context the injection context
+     * @return true
+     */
+    @Override
+    public boolean isDataShareable(final InjectionContext context) {
+        return true;
+    }
+
+    @Override
+    public DataScope scope(final InjectionContext context) {
+        return scopeLookup.apply(context);
+    }
+
+    /**
+     * Provides the data for the given context.  For methods, the row arguments are provided as {@code Object[][]};  use
+     * {@link #provideRowStream(InjectionContext)} to convert rows lazily on demand instead.
+     *
+     * @param context the injection context
+     * @return the converted data to inject
+     */
     @Override
     public Object provideData(final InjectionContext context) {
         return provideData(context, provideTable(context), provideValueConverter(context));
@@ -79,16 +129,7 @@ public class TableDataProvider implements DataProvider {
             final Field field = (Field)element;
             return table.to(field.getType(), field.getGenericType(), valueConverter);
         } else if (element instanceof Method) {
-            final Method method = (Method)element;
-            final Parameter[] parameters = method.getParameters();
-            final Object[][] values = new Object[table.getRowCount()][parameters.length];
-            for (int i = 0; i < table.getRowCount(); i++) {
-                final TableRow row = table.getRow(i);
-                for (int j = 0; j < parameters.length; j++) {
-                    values[i][j] = tableRowConverter(context, parameters[j], j, valueConverter).convert(row);
-                }
-            }
-            return values;
+            return provideRowStream(context, table, valueConverter).toArray(Object[][]::new);
         } else if (element instanceof Parameter) {
             final Parameter parameter = (Parameter)element;
             return table.to(parameter.getType(), parameter.getParameterizedType(), valueConverter);
@@ -96,6 +137,125 @@ public class TableDataProvider implements DataProvider {
         throw new SpockitoException("Annotated element is not supported: " + element);
     }
 
+    public Stream<Object[]> provideRowStream(final InjectionContext context) {
+        return provideRowStream(context, provideTable(context), provideValueConverter(context));
+    }
+
+    /**
+     * Provides the method arguments for all table rows as lazy stream, converting rows on demand.  If the method is
+     * annotated with {@link Batch @Batch}, every element of the stream contains a single argument with a list of
+     * converted rows.
+     *
+     * @param context           the injection context with a method as annotated element
+     * @param table             the table with the rows to convert
+     * @param valueConverter    the value converter
+     * @return a stream with the method arguments, one element per method invocation
+     * @throws IllegalArgumentException if the annotated element is not a method, or for an invalid batch method
+     */
+    public Stream<Object[]> provideRowStream(final InjectionContext context,
+                                             final Table table,
+                                             final ValueConverter valueConverter) {
+        return provideRowStream(context, table, valueConverter, row -> true);
+    }
+
+    /**
+     * Provides the method arguments for the table rows accepted by the given filter as lazy stream, converting rows on
+     * demand.  Rows rejected by the filter are skipped before any conversion, for instance rows of another
+     * {@linkplain Sharding shard}.  Batches are formed from the accepted rows.
+     *
+     * @param context           the injection context with a method as annotated element
+     * @param table             the table with the rows to convert
+     * @param valueConverter    the value converter
+     * @param rowFilter         filter for the rows to include
+     * @return a stream with the method arguments, one element per method invocation
+     * @throws IllegalArgumentException if the annotated element is not a method, or for an invalid batch method
+     */
+    public Stream<Object[]> provideRowStream(final InjectionContext context,
+                                             final Table table,
+                                             final ValueConverter valueConverter,
+                                             final Predicate<? super TableRow> rowFilter) {
+        requireNonNull(rowFilter);
+        final AnnotatedElement element = context.annotatedElement();
+        if (!(element instanceof Method)) {
+            throw new IllegalArgumentException("Annotated element is not a method: " + element);
+        }
+        final Method method = (Method)element;
+        final Batch batch = annotationDirectOrMeta(method, Batch.class);
+        if (batch != null) {
+            return batchStream(method, batch.value(), table, valueConverter, rowFilter);
+        }
+        final TableRowConverter[] converters = tableRowConverters(context, method, valueConverter);
+        return rowStream(table).filter(rowFilter).map(row -> {
+            final Object[] values = new Object[converters.length];
+            for (int i = 0; i < converters.length; i++) {
+                values[i] = converters[i].convert(row);
+            }
+            return values;
+        });
+    }
+
+    private static Stream<TableRow> rowStream(final Table table) {
+        return IntStream.range(0, table.getRowCount()).mapToObj(table::getRow);
+    }
+
+    private static Stream<Object[]> batchStream(final Method method,
+                                                final int batchSize,
+                                                final Table table,
+                                                final ValueConverter valueConverter,
+                                                final Predicate<? super TableRow> rowFilter) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive for method " + method + ": " + batchSize);
+        }
+        if (method.getParameterCount() != 1 || !method.getParameterTypes()[0].isAssignableFrom(List.class)) {
+            throw new IllegalArgumentException("Batch method " + method + " must have a single List parameter");
+        }
+        final ActualType rowType = GenericTypes.actualTypeForTypeParam(method.getGenericParameterTypes()[0], 0, 1);
+        final boolean tableRows = rowType.rawType().isAssignableFrom(TableRow.class);
+        //rows are filtered and converted lazily when the batches are consumed
+        final Iterator<TableRow> rows = rowStream(table).filter(rowFilter).iterator();
+        final Iterator<Object[]> batches = new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                if (!rows.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final List<Object> batch = new ArrayList<>(batchSize);
+                while (batch.size() < batchSize && rows.hasNext()) {
+                    final TableRow row = rows.next();
+                    batch.add(tableRows ? row : row.to(rowType.rawType(), rowType.genericType(), valueConverter));
+                }
+                return new Object[] {batch};
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Returns the row converters for all parameters of the given method.  The converters are created once per method
+     * invocation and applied to every table row.  The default implementation returns converters created via
+     * {@link #tableRowConverter(InjectionContext, Parameter, int, ValueConverter) tableRowConverter(..)}.
+     *
+     * @param context           the injection context for the method
+     * @param method            the method whose parameters are converted
+     * @param valueConverter    the value converter
+     * @return an array with one converter per method parameter
+     */
+    protected TableRowConverter[] tableRowConverters(final InjectionContext context,
+                                                     final Method method,
+                                                     final ValueConverter valueConverter) {
+        final Parameter[] parameters = method.getParameters();
+        final TableRowConverter[] converters = new TableRowConverter[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            converters[i] = tableRowConverter(context, parameters[i], i, valueConverter);
+        }
+        return converters;
+    }
+
     protected TableRowConverter tableRowConverter(final InjectionContext context,
                                                   final Parameter parameter,
                                                   final int index,
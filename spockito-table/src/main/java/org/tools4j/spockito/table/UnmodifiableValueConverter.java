@@ -0,0 +1,53 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.table;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+/**
+ * Value converter extending the {@link SpockitoValueConverter} to convert values into compact unmodifiable collections
+ * and maps if the target type is a read-only interface such as {@link Collection}, {@link List}, {@link Set},
+ * {@link SortedSet}, {@link NavigableSet}, {@link Map}, {@link SortedMap} or {@link NavigableMap}.  Other collection
+ * and map types are converted into modifiable instances as usual.
+ * <p>
+ * Unmodifiable values are useful if converted data is shared, for instance between the rows of a table or with
+ * {@link DataScope#CLASS class} scoped data, where a test modifying a value would affect other tests.  The default
+ * converter keeps returning modifiable instances for compatibility.
+ */
+public class UnmodifiableValueConverter extends SpockitoValueConverter {
+
+    @Override
+    protected void initConverterFunctions() {
+        registerConverter((t, g) -> Collection.class.isAssignableFrom(t), new Converters.CollectionConverter(this, true));
+        registerConverter((t, g) -> Map.class.isAssignableFrom(t), new Converters.MapConverter(this, true));
+        super.initConverterFunctions();
+    }
+}
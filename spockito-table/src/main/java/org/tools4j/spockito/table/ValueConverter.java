@@ -23,8 +23,12 @@
  */
 package org.tools4j.spockito.table;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -57,6 +61,93 @@ public interface ValueConverter {
         return convert(type, type, value);
     }
 
+    /**
+     * Converts all string values of a column into the target type specified by raw and generic type.  Implementations
+     * should resolve the conversion only once for the whole column;  the default implementation simply invokes
+     * {@link #convert(Class, Type, String)} for every value.
+     *
+     * @param type          the target type in raw form, for instance {@code int.class}, {@code List.class} etc.
+     * @param genericType   the generic target type, same as type for non-generic types; generic type examples are
+     *                      {@code List<String>}, {@code Map<String, Integer>} etc.
+     * @param values        the values to convert, values may be null
+     * @param <T> the target type parameter
+     * @return a list with the converted values in the same order as the input values
+     */
+    default <T> List<T> convertColumn(final Class<T> type, final Type genericType, final List<String> values) {
+        final List<T> result = new ArrayList<>(values.size());
+        for (final String value : values) {
+            result.add(convert(type, genericType, value));
+        }
+        return result;
+    }
+
+    /**
+     * Converts all string values of a column into an array of the target type specified by raw and generic type.  For
+     * primitive target types, an array of the boxing type is returned, for instance {@code Integer[]} for
+     * {@code int.class}.  Use {@link #convertIntColumn(List)}, {@link #convertLongColumn(List)} or
+     * {@link #convertDoubleColumn(List)} for conversion into primitive arrays.
+     *
+     * @param type          the target type in raw form, for instance {@code int.class}, {@code List.class} etc.
+     * @param genericType   the generic target type, same as type for non-generic types
+     * @param values        the values to convert, values may be null
+     * @param <T> the target type parameter
+     * @return an array with the converted values in the same order as the input values
+     */
+    default <T> T[] convertColumn(final Class<T> type, final Type genericType, final String[] values) {
+        final Class<T> elementType = type.isPrimitive() ? Primitives.boxingTypeFor(type) : type;
+        @SuppressWarnings("unchecked")
+        final T[] result = (T[]) Array.newInstance(elementType, values.length);
+        return convertColumn(type, genericType, Arrays.asList(values)).toArray(result);
+    }
+
+    /**
+     * Converts all string values of a column into an {@code int} array.
+     *
+     * @param values the values to convert, must not contain null values
+     * @return an array with the converted values in the same order as the input values
+     * @throws IllegalArgumentException if a value cannot be converted or if it converts to null
+     */
+    default int[] convertIntColumn(final List<String> values) {
+        final List<Integer> converted = convertColumn(int.class, int.class, values);
+        final int[] result = new int[converted.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Primitives.nonNullValue(converted.get(i), int.class, i);
+        }
+        return result;
+    }
+
+    /**
+     * Converts all string values of a column into a {@code long} array.
+     *
+     * @param values the values to convert, must not contain null values
+     * @return an array with the converted values in the same order as the input values
+     * @throws IllegalArgumentException if a value cannot be converted or if it converts to null
+     */
+    default long[] convertLongColumn(final List<String> values) {
+        final List<Long> converted = convertColumn(long.class, long.class, values);
+        final long[] result = new long[converted.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Primitives.nonNullValue(converted.get(i), long.class, i);
+        }
+        return result;
+    }
+
+    /**
+     * Converts all string values of a column into a {@code double} array.
+     *
+     * @param values the values to convert, must not contain null values
+     * @return an array with the converted values in the same order as the input values
+     * @throws IllegalArgumentException if a value cannot be converted or if it converts to null
+     */
+    default double[] convertDoubleColumn(final List<String> values) {
+        final List<Double> converted = convertColumn(double.class, double.class, values);
+        final double[] result = new double[converted.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Primitives.nonNullValue(converted.get(i), double.class, i);
+        }
+        return result;
+    }
+
     /**
      * Returns true if the given type supports multi-value conversion, such as maps, collections or arrays.
      *
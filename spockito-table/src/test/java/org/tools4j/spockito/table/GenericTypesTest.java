@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.table;
+
+import org.junit.jupiter.api.Test;
+import org.tools4j.spockito.table.GenericTypes.ActualType;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit test for {@link GenericTypes}.
+ */
+public class GenericTypesTest {
+
+    private List<String> stringList;
+    private Map<String, List<Integer>> integerListMap;
+
+    @Test
+    public void genericListTypeEqualsJdkType() throws Exception {
+        //given
+        final Type jdkType = GenericTypesTest.class.getDeclaredField("stringList").getGenericType();
+
+        //when
+        final ParameterizedType listType = GenericTypes.genericListType(String.class);
+
+        //then
+        assertEquals(GenericTypes.genericListType(String.class), listType, "Expected equal list type");
+        assertEquals(jdkType, listType, "Expected list type equal to JDK type");
+        assertEquals(listType, jdkType, "Expected JDK type equal to list type");
+        assertEquals(jdkType.hashCode(), listType.hashCode(), "Expected same hash code as JDK type");
+        assertEquals(jdkType.getTypeName(), listType.getTypeName(), "Expected same type name as JDK type");
+    }
+
+    @Test
+    public void actualTypeForTypeParam() throws Exception {
+        //given
+        final Type mapType = GenericTypesTest.class.getDeclaredField("integerListMap").getGenericType();
+
+        //when
+        final ActualType keyType = GenericTypes.actualTypeForTypeParam(mapType, 0, 2);
+        final ActualType valueType = GenericTypes.actualTypeForTypeParam(mapType, 1, 2);
+
+        //then
+        assertEquals(ActualType.create(String.class, String.class), keyType, "Unexpected key type");
+        assertEquals(keyType.hashCode(), ActualType.create(String.class, String.class).hashCode(), "Unexpected key type hash code");
+        assertEquals(List.class, valueType.rawType(), "Unexpected value raw type");
+        assertEquals(GenericTypes.genericListType(Integer.class), valueType.genericType(), "Unexpected value generic type");
+        assertEquals(ActualType.create(List.class, GenericTypes.genericListType(Integer.class)), valueType, "Expected equal value type");
+    }
+}
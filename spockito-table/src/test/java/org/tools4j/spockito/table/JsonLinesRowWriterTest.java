@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.table;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for {@link JsonLinesRowWriter}
+ */
+public class JsonLinesRowWriterTest {
+
+    @Test
+    public void writeEventsAsJsonLines() throws Exception {
+        //given
+        final Table table = Table.parse(new String[] {
+                "| Name  | Age |",
+                "| Henry | 42  |"
+        });
+        final Map<String, String> quoted = new LinkedHashMap<>();
+        quoted.put("Name", "Jessy \"J\"");
+        quoted.put("Age", "17");
+        final StringWriter out = new StringWriter();
+        final int threads = 4;
+        final int eventsPerThread = 250;
+        final CountDownLatch done = new CountDownLatch(threads);
+
+        //when
+        try (final JsonLinesRowWriter writer = new JsonLinesRowWriter(out)) {
+            writer.rowFinished(new RowEvent("Test#method", "method[1]", 1, quoted,
+                    RowEvent.Outcome.FAILED, new AssertionError("bad\nage"), 10, 20, 30));
+            for (int t = 0; t < threads; t++) {
+                new Thread(() -> {
+                    for (int i = 0; i < eventsPerThread; i++) {
+                        writer.rowFinished(new RowEvent("Test#method", "method[0]", 0, table.getRow(0).toMap(),
+                                RowEvent.Outcome.SUCCESSFUL, null, 1, 2, 3));
+                    }
+                    done.countDown();
+                }).start();
+            }
+            assertTrue(done.await(10, TimeUnit.SECONDS), "publishing threads should terminate");
+        }
+
+        //then
+        final String[] lines = out.toString().split("\n");
+        assertEquals(1 + threads * eventsPerThread, lines.length, "number of lines");
+        assertEquals("{\"table\":\"Test#method\",\"test\":\"method[1]\",\"row\":1," +
+                        "\"keys\":{\"Name\":\"Jessy \\\"J\\\"\",\"Age\":\"17\"},\"outcome\":\"FAILED\"," +
+                        "\"failure\":\"java.lang.AssertionError: bad\\nage\",\"conversionNanos\":10," +
+                        "\"setupNanos\":20,\"testNanos\":30}", lines[0], "first line");
+        assertEquals("{\"table\":\"Test#method\",\"test\":\"method[0]\",\"row\":0," +
+                        "\"keys\":{\"Name\":\"Henry\",\"Age\":\"42\"},\"outcome\":\"SUCCESSFUL\"," +
+                        "\"failure\":null,\"conversionNanos\":1,\"setupNanos\":2,\"testNanos\":3}",
+                lines[lines.length - 1], "last line");
+    }
+}
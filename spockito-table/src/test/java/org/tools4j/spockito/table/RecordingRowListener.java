@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.table;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Row listener recording row events, registered for the tests that need it until it is closed.  Shared by the tests
+ * of all modules.
+ */
+public final class RecordingRowListener implements RowListener, AutoCloseable {
+
+    private final Queue<RowEvent> events = new ConcurrentLinkedQueue<>();
+    private final boolean failing;
+    private final RowListener previous;
+
+    private RecordingRowListener(final boolean failing) {
+        this.failing = failing;
+        this.previous = RowListeners.replace(this);
+    }
+
+    /**
+     * @return a new listener replacing the registered listener until closed
+     */
+    public static RecordingRowListener register() {
+        return new RecordingRowListener(false);
+    }
+
+    /**
+     * @return a new listener replacing the registered listener until closed, and throwing an exception for every
+     *         event after recording it
+     */
+    public static RecordingRowListener registerFailing() {
+        return new RecordingRowListener(true);
+    }
+
+    @Override
+    public void rowFinished(final RowEvent event) {
+        events.add(event);
+        if (failing) {
+            throw new IllegalStateException("Row listener failure for row " + event.rowIndex());
+        }
+    }
+
+    /**
+     * Returns the recorded events of the given table sorted by row index.
+     *
+     * @param tableId the table ID of the events
+     * @return the events of the table
+     */
+    public List<RowEvent> events(final String tableId) {
+        return events.stream()
+                .filter(event -> event.tableId().equals(tableId))
+                .sorted(Comparator.comparingInt(RowEvent::rowIndex))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Restores the listener that was registered before this listener.
+     */
+    @Override
+    public void close() {
+        RowListeners.replace(previous);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 tools4j.org (Marco Terzer)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.spockito.table;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for {@link RowListeners}
+ */
+public class RowListenersTest {
+
+    private static final Table TABLE = Table.parse(new String[] {
+            "| Name  | Age | City   |",
+            "| Henry | 42  | London |"
+    });
+
+    @Test
+    public void noListenerWithoutServicesAndEventsFile() {
+        //when
+        final RowListener listener = RowListeners.listener(Collections.emptyList(), " ");
+
+        //then
+        assertSame(RowListener.NOOP, listener, "listener");
+    }
+
+    @Test
+    public void serviceListenerNotifiedDirectly() {
+        //given
+        final List<RowEvent> events = new ArrayList<>();
+        final RowListener service = events::add;
+
+        //when
+        final RowListener listener = RowListeners.listener(Collections.singletonList(service), "");
+        listener.rowFinished(event("Henry"));
+
+        //then
+        assertSame(service, listener, "listener");
+        assertEquals(1, events.size(), "number of events");
+    }
+
+    @Test
+    public void eventsFileAddedToServiceListeners() throws Exception {
+        //given
+        final Path dir = Files.createTempDirectory("spockito-events");
+        final List<RowEvent> events = new ArrayList<>();
+        final RowListener service = events::add;
+
+        //when
+        final RowListener listener = RowListeners.listener(Collections.singletonList(service),
+                dir.resolve("events-{pid}.jsonl").toString());
+        listener.rowFinished(event("Henry"));
+        listener.rowFinished(event("Jessy"));
+
+        //then
+        assertEquals(2, events.size(), "number of events notified to service");
+        final Path file = dir.resolve("events-" + JsonLinesRowWriter.processId() + ".jsonl");
+        assertTrue(Files.exists(file), "events file with process ID should exist");
+        //file writer is closed by shutdown hook, but events are flushed when the writer becomes idle
+        assertTrue(awaitLines(file, 2), "events should be written to file");
+        final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertTrue(lines.get(0).contains("\"keys\":{\"Name\":\"Henry\"}"), "first line: " + lines.get(0));
+        assertTrue(lines.get(1).contains("\"keys\":{\"Name\":\"Jessy\"}"), "second line: " + lines.get(1));
+    }
+
+    @Test
+    public void eventsFileThatCannotBeOpenedIgnored() throws Exception {
+        //given
+        final Path notADirectory = Files.createTempFile("spockito-events", ".tmp");
+        final RowListener service = event -> {};
+
+        //when
+        final RowListener listener = RowListeners.listener(Collections.singletonList(service),
+                notADirectory.resolve("events.jsonl").toString());
+
+        //then
+        assertSame(service, listener, "listener");
+    }
+
+    @Test
+    public void failingListenerDoesNotPreventOtherListeners() {
+        //given
+        final List<RowEvent> events = new ArrayList<>();
+        final RowListener failing = event -> {
+            throw new IllegalStateException("test failure");
+        };
+
+        //when
+        final RowListener listener = RowListeners.listener(Arrays.asList(failing, events::add), "");
+        listener.rowFinished(event("Henry"));
+
+        //then
+        assertEquals(1, events.size(), "number of events notified to second listener");
+    }
+
+    @Test
+    public void publishCatchesListenerFailure() {
+        //given
+        final RowListener defaultListener = RowListeners.listener();
+        final RecordingRowListener listener = RecordingRowListener.registerFailing();
+
+        //when
+        try {
+            assertTrue(RowListeners.isEnabled(), "enabled with registered listener");
+            RowListeners.publish(event("Henry"));
+        } finally {
+            listener.close();
+        }
+
+        //then
+        assertEquals(1, listener.events("Test#method").size(), "number of events");
+        assertSame(defaultListener, RowListeners.listener(), "listener restored when closed");
+    }
+
+    @Test
+    public void keyColumnsParsedFromProperty() {
+        //when + then
+        assertEquals(Collections.emptyList(), RowListeners.keyColumns(""), "empty");
+        assertEquals(Collections.emptyList(), RowListeners.keyColumns(" , "), "blank");
+        assertEquals(Arrays.asList("Name", "City"), RowListeners.keyColumns(" Name,, City "), "key columns");
+    }
+
+    @Test
+    public void keyValuesOfKeyColumns() {
+        //given
+        final TableRow row = TABLE.getRow(0);
+        final Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("City", "London");
+        expected.put("Name", "Henry");
+
+        //when + then
+        assertEquals(row.toMap(), RowListeners.keyValues(row, Collections.emptyList()), "all columns");
+        assertEquals(expected, RowListeners.keyValues(row, Arrays.asList("City", "Unknown", "Name")),
+                "key columns");
+    }
+
+    private static RowEvent event(final String name) {
+        return new RowEvent("Test#method", "method", 0, Collections.singletonMap("Name", name),
+                RowEvent.Outcome.SUCCESSFUL, null, 1, 2, 3);
+    }
+
+    private static boolean awaitLines(final Path file, final int lines) throws Exception {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (Files.readAllLines(file, StandardCharsets.UTF_8).size() >= lines) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+}
@@ -28,12 +28,35 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -99,6 +122,238 @@ public class SpockitoDataTest {
         assertEquals(2020, data.cars.get(1).year, "data.cars[1].year");
     }
 
+    static class ScopedData extends SpockitoData {
+        @TableData(value = {
+                "| Name  | Age |",
+                "| Frank |  27 |",
+                "| James |  29 |"
+        }, scope = DataScope.CLASS)
+        List<Person> persons;
+
+        @TableData(value = {
+                "| Name  | Age |",
+                "| Frank |  27 |",
+                "| James |  29 |"
+        }, scope = DataScope.CLASS)
+        Person[] personArray;
+
+        @TableData({
+                "| Name  | Age |",
+                "| Frank |  27 |",
+                "| James |  29 |"
+        })
+        List<Person> instancePersons;
+    }
+
+    @Test
+    public void initScopedDataField() {
+        //when
+        final ScopedData data1 = new ScopedData();
+        final ScopedData data2 = new ScopedData();
+
+        //then
+        assertEquals(2, data1.persons.size(), "data1.persons.size");
+        assertEquals("James", data2.persons.get(1).name, "data2.persons[1].name");
+        assertSame(data1.persons.get(0), data2.persons.get(0), "persons[0] should be shared");
+        assertSame(data1.personArray[1], data2.personArray[1], "personArray[1] should be shared");
+        assertNotSame(data1.personArray, data2.personArray, "personArray should be a copy");
+        assertNotSame(data1.instancePersons.get(0), data2.instancePersons.get(0), "instancePersons[0] should not be shared");
+        assertThrows(UnsupportedOperationException.class, () -> data1.persons.clear(), "persons should be unmodifiable");
+        data1.instancePersons.clear();
+        assertEquals(2, data2.instancePersons.size(), "data2.instancePersons.size");
+    }
+
+    static class JvmScopedData extends SpockitoData {
+        @TableData(value = {
+                "| Name  | Age |",
+                "| Frank |  27 |",
+                "| James |  29 |"
+        }, scope = DataScope.JVM)
+        List<Person> persons;
+    }
+
+    static class OtherJvmScopedData extends SpockitoData {
+        @TableData(value = {
+                "| Name  | Age |",
+                "| Frank |  27 |",
+                "| James |  29 |"
+        }, scope = DataScope.JVM)
+        List<Person> persons;
+
+        @TableData(value = {
+                "| Name  | Age |",
+                "| Frank |  27 |",
+                "| Nina  |   3 |"
+        }, scope = DataScope.JVM)
+        List<Person> otherPersons;
+    }
+
+    @Test
+    public void initJvmScopedDataField() {
+        //when
+        final JvmScopedData data1 = new JvmScopedData();
+        final OtherJvmScopedData data2 = new OtherJvmScopedData();
+
+        //then
+        assertEquals(2, data1.persons.size(), "data1.persons.size");
+        assertSame(data1.persons.get(1), data2.persons.get(1), "persons[1] should be shared across classes");
+        assertNotSame(data2.persons.get(0), data2.otherPersons.get(0), "otherPersons[0] should not be shared");
+        assertEquals("Nina", data2.otherPersons.get(1).name, "data2.otherPersons[1].name");
+        assertThrows(UnsupportedOperationException.class, () -> data2.persons.clear(), "persons should be unmodifiable");
+    }
+
+    @Test
+    public void initLazyDataField() {
+        //given
+        final class LazyData extends SpockitoData {
+            @TableData({
+                    "| Name  | Age |",
+                    "| Frank |  27 |",
+                    "| James |  29 |"
+            })
+            Supplier<List<Person>> personsSupplier;
+
+            @TableData({
+                    "| Name  | Age |",
+                    "| Frank |  27 |",
+                    "| James |  29 |"
+            })
+            Stream<Person> personStream;
+
+            @TableData({
+                    "| Name  | Age |",
+                    "| Frank |  27 |",
+                    "| James |  29 |"
+            })
+            Iterable<Person> personIterable;
+
+            @TableData({
+                    "| Name  | Age |",
+                    "| Frank |  27 |",
+                    "| James |  29 |"
+            })
+            Iterator<Person> personIterator;
+
+            @TableData({
+                    "| Name  | Age |",
+                    "| Frank |  27 |",
+                    "| James |  29 |"
+            })
+            Iterable<TableRow> rowIterable;
+        }
+
+        //when
+        final LazyData data = new LazyData();
+
+        //then
+        assertEquals(2, data.personsSupplier.get().size(), "data.personsSupplier.size");
+        assertSame(data.personsSupplier.get(), data.personsSupplier.get(), "data.personsSupplier should be memoised");
+        assertEquals(Arrays.asList("Frank", "James"), data.personStream.map(p -> p.name).collect(Collectors.toList()), "data.personStream.names");
+        final Iterator<Person> iterator = data.personIterable.iterator();
+        final Person first = iterator.next();
+        assertEquals(27, first.age, "data.personIterable[0].age");
+        assertEquals(29, iterator.next().age, "data.personIterable[1].age");
+        assertFalse(iterator.hasNext(), "data.personIterable.hasNext");
+        assertSame(first, data.personIterable.iterator().next(), "data.personIterable should be memoised");
+        assertEquals("Frank", data.personIterator.next().name, "data.personIterator[0].name");
+        assertEquals("James", data.personIterator.next().name, "data.personIterator[1].name");
+        assertTrue(data.rowIterable instanceof Table, "data.rowIterable should be table");
+    }
+
+    static class ParallelData {
+        @TableData({
+                "| Name  | Age |",
+                "| Frank |  27 |",
+                "| James |  29 |"
+        })
+        Person[] persons;
+
+        @TableData({
+                "| Manufacturer | Model | Year |",
+                "| Volkswagen   | Golf  | 2021 |",
+                "| BMW          | 528i  | 2020 |",
+        })
+        List<Car> cars;
+
+        final List<String> names = new ArrayList<>();
+
+        @TableData({
+                "| Name  | Age |",
+                "| Frank |  27 |",
+                "| James |  29 |"
+        })
+        void addName(final String name, final int age) {
+            names.add(name + ":" + age);
+        }
+    }
+
+    static class FailingParallelData {
+        @TableData({
+                "| Name  | Age |",
+                "| Frank |  27 |"
+        })
+        Person[] persons;
+
+        @TableData({
+                "| Value |",
+                "| one   |"
+        })
+        int[] first;
+
+        @TableData({
+                "| Value |",
+                "| two   |"
+        })
+        long[] second;
+    }
+
+    @Test
+    public void initDataParallel() {
+        //given
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final ParallelData data = new ParallelData();
+
+            //when
+            SpockitoAnnotations.initData(data, executor);
+
+            //then
+            assertEquals(2, data.persons.length, "data.persons.length");
+            assertEquals("James", data.persons[1].name, "data.persons[1].name");
+            assertEquals(2, data.cars.size(), "data.cars.size");
+            assertEquals("528i", data.cars.get(1).model, "data.cars[1].model");
+            assertEquals(Arrays.asList("Frank:27", "James:29"), data.names, "data.names");
+
+            //when
+            final FailingParallelData failingData = new FailingParallelData();
+            final SpockitoException exception = assertThrows(SpockitoException.class,
+                    () -> SpockitoAnnotations.initData(failingData, executor));
+
+            //then
+            assertTrue(exception.getMessage().endsWith(".first"), "exception should be for first field: " + exception.getMessage());
+            assertEquals(1, exception.getSuppressed().length, "suppressed exception count");
+            assertTrue(exception.getSuppressed()[0].getMessage().endsWith(".second"), "suppressed exception should be for second field");
+            assertNull(failingData.persons, "no field should be assigned");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public static class StatefulDataProvider implements DataProvider {
+        @Override
+        public Object provideData(final InjectionContext context) {
+            return this;
+        }
+    }
+
+    @Test
+    public void createDataProvider() {
+        assertSame(DataProvider.create(TableDataProvider.class), DataProvider.create(TableDataProvider.class),
+                "stateless provider should be singleton");
+        assertNotSame(DataProvider.create(StatefulDataProvider.class), DataProvider.create(StatefulDataProvider.class),
+                "stateful provider should be new instance");
+    }
+
     @Test
     public void initDataMethod() throws Exception {
         //given
@@ -212,6 +467,448 @@ public class SpockitoDataTest {
         assertEquals(2, data.parentChildCount, "data.parentChildCount");
     }
 
+    static class SingleParameterData {
+        final List<String> names = new ArrayList<>();
+        final List<Person> persons = new ArrayList<>();
+
+        @TableData({
+                "| Name  | Age |",
+                "| Frank |  27 |",
+                "| James |  29 |"
+        })
+        void addName(final @Column("Name") String name) {
+            names.add(name);
+        }
+
+        @TableData({
+                "| Name  | Age |",
+                "| Frank |  27 |",
+                "| James |  29 |"
+        })
+        private void addPerson(final @Row Person person) {
+            persons.add(person);
+        }
+    }
+
+    static class ThrowingData {
+        @TableData({
+                "| Name  | Age |",
+                "| Frank |  27 |"
+        })
+        void fail(final String name, final int age) {
+            throw new IllegalStateException("test failure for " + name);
+        }
+    }
+
+    @Test
+    public void invokeDataMethods() {
+        //given
+        final SingleParameterData data = new SingleParameterData();
+
+        //when
+        SpockitoAnnotations.initData(data);
+
+        //then
+        assertEquals(Arrays.asList("Frank", "James"), data.names, "data.names");
+        assertEquals(2, data.persons.size(), "data.persons.size");
+        assertEquals(29, data.persons.get(1).age, "data.persons[1].age");
+
+        //when
+        final SpockitoException exception = assertThrows(SpockitoException.class,
+                () -> SpockitoAnnotations.initData(new ThrowingData()));
+
+        //then
+        assertTrue(exception.getCause() instanceof InvocationTargetException, "cause should be InvocationTargetException");
+        assertTrue(exception.getCause().getCause() instanceof IllegalStateException, "cause.cause should be IllegalStateException");
+        assertEquals("test failure for Frank", exception.getCause().getCause().getMessage(), "cause.cause.message");
+    }
+
+    static class BaseData {
+        final List<String> invocations = new ArrayList<>();
+
+        @TableData({
+                "| Name  | Age |",
+                "| Frank |  27 |"
+        })
+        private Person[] basePersons;
+
+        @TableData({
+                "| Name  | Age |",
+                "| James |  29 |"
+        })
+        private void addBaseName(final @Column("Name") String name) {
+            invocations.add("base:" + name);
+        }
+    }
+
+    static class DerivedData extends BaseData {
+        @TableData({
+                "| Manufacturer | Model | Year |",
+                "| BMW          | 528i  | 2020 |"
+        })
+        private Car[] derivedCars;
+
+        @TableData({
+                "| Name  | Age |",
+                "| Nina  |   3 |"
+        })
+        private void addDerivedName(final @Column("Name") String name) {
+            invocations.add("derived:" + name);
+        }
+    }
+
+    @Test
+    public void initInheritedAndPrivateDataMembers() {
+        //given
+        final DerivedData data = new DerivedData();
+        final DerivedData other = new DerivedData();
+
+        //when
+        SpockitoAnnotations.initData(data);
+        SpockitoAnnotations.initData(other);
+
+        //then
+        assertSame(InjectionPlan.forClass(DerivedData.class), InjectionPlan.forClass(DerivedData.class), "plan should be computed once");
+        assertEquals(1, InjectionPlan.forClass(BaseData.class).fields(false).size(), "base fields");
+        assertEquals(2, InjectionPlan.forClass(DerivedData.class).fields(false).size(), "derived fields");
+        assertEquals(2, InjectionPlan.forClass(DerivedData.class).methods(false).size(), "derived methods");
+        assertEquals(1, ((BaseData)data).basePersons.length, "data.basePersons.length");
+        assertEquals("Frank", ((BaseData)data).basePersons[0].name, "data.basePersons[0].name");
+        assertEquals("528i", data.derivedCars[0].model, "data.derivedCars[0].model");
+        assertEquals(Arrays.asList("derived:Nina", "base:James"), data.invocations, "data.invocations");
+        assertEquals(Arrays.asList("derived:Nina", "base:James"), other.invocations, "other.invocations");
+        assertEquals(27, ((BaseData)other).basePersons[0].age, "other.basePersons[0].age");
+    }
+
+    @Retention(RUNTIME)
+    @Target({ANNOTATION_TYPE, FIELD, TYPE})
+    @CycleB
+    @interface CycleA {}
+
+    @Retention(RUNTIME)
+    @Target({ANNOTATION_TYPE, FIELD, TYPE})
+    @CycleA
+    @TableData({
+            "| Name  | Age |",
+            "| Frank |  27 |",
+            "| James |  29 |"
+    })
+    @interface CycleB {}
+
+    @Retention(RUNTIME)
+    @Target(TYPE)
+    @Inherited
+    @CycleA
+    @interface InheritedCycle {}
+
+    @InheritedCycle
+    static class AnnotatedBase {}
+
+    static class AnnotatedDerived extends AnnotatedBase {
+        @CycleA
+        Person[] persons;
+        Person[] notAnnotated;
+    }
+
+    @Test
+    public void resolveMetaAnnotationsWithCycleAndInheritance() throws Exception {
+        //given
+        final AnnotatedElement field = AnnotatedDerived.class.getDeclaredField("persons");
+        final AnnotatedElement notAnnotated = AnnotatedDerived.class.getDeclaredField("notAnnotated");
+
+        //when
+        final TableData fieldTableData = SpockitoAnnotations.annotationDirectOrMeta(field, TableData.class);
+        final TableData classTableData = SpockitoAnnotations.annotationDirectOrMeta(AnnotatedDerived.class, TableData.class);
+
+        //then
+        assertNotNull(fieldTableData, "field @TableData via meta-annotation cycle");
+        assertSame(fieldTableData, SpockitoAnnotations.annotationDirectOrMeta(field, TableData.class), "field @TableData again");
+        assertNotNull(SpockitoAnnotations.annotationDirectOrMeta(field, CycleB.class), "field @CycleB");
+        assertNotNull(SpockitoAnnotations.annotationDirectOrMeta(field, Data.class), "field @Data");
+        assertSame(fieldTableData, classTableData, "inherited class @TableData");
+        assertNotNull(SpockitoAnnotations.annotationDirectOrMeta(AnnotatedDerived.class, InheritedCycle.class), "inherited @InheritedCycle");
+        assertNull(SpockitoAnnotations.annotationDirectOrMeta(notAnnotated, TableData.class), "not annotated @TableData");
+        assertNull(SpockitoAnnotations.annotationDirectOrMeta(AnnotatedDerived.class, Batch.class), "class @Batch");
+        assertEquals(2, fieldTableData.value().length - 1, "field @TableData rows");
+    }
+
+    public static class UpperCaseTableDataProvider extends TableDataProvider {
+        static final AtomicInteger CONVERTERS_CREATED = new AtomicInteger();
+
+        @Override
+        protected TableRowConverter tableRowConverter(final InjectionContext context,
+                                                      final Parameter parameter,
+                                                      final int index,
+                                                      final ValueConverter valueConverter) {
+            CONVERTERS_CREATED.incrementAndGet();
+            final TableRowConverter converter = super.tableRowConverter(context, parameter, index, valueConverter);
+            if (parameter.getType() != String.class) {
+                return converter;
+            }
+            return row -> ((String)converter.convert(row)).toUpperCase();
+        }
+    }
+
+    static class UpperCaseData {
+        final List<String> names = new ArrayList<>();
+        final List<Integer> ages = new ArrayList<>();
+
+        @Data(UpperCaseTableDataProvider.class)
+        @TableData({
+                "| Name  | Age |",
+                "| Frank |  27 |",
+                "| James |  29 |",
+                "| Nina  |   3 |"
+        })
+        void add(final String name, final int age) {
+            names.add(name);
+            ages.add(age);
+        }
+    }
+
+    @Test
+    public void invokeDataMethodWithCustomRowConverter() {
+        //given
+        final UpperCaseData data = new UpperCaseData();
+        UpperCaseTableDataProvider.CONVERTERS_CREATED.set(0);
+
+        //when
+        SpockitoAnnotations.initData(data);
+
+        //then
+        assertEquals(Arrays.asList("FRANK", "JAMES", "NINA"), data.names, "data.names");
+        assertEquals(Arrays.asList(27, 29, 3), data.ages, "data.ages");
+        assertEquals(2, UpperCaseTableDataProvider.CONVERTERS_CREATED.get(), "converters should be created once per parameter");
+    }
+
+    public static class AdultsTableDataProvider extends TableDataProvider {
+        @Override
+        public Object provideData(final InjectionContext context) {
+            final Object[][] rows = (Object[][])super.provideData(context);
+            final List<Object[]> adults = new ArrayList<>();
+            for (final Object[] row : rows) {
+                if ((Integer)row[1] >= 18) {
+                    adults.add(row);
+                }
+            }
+            adults.add(new Object[] {"Added", 99});
+            return adults.toArray(new Object[0][]);
+        }
+    }
+
+    static class AdultsData {
+        final List<String> names = new ArrayList<>();
+
+        @Data(AdultsTableDataProvider.class)
+        @TableData({
+                "| Name  | Age |",
+                "| Frank |  27 |",
+                "| Nina  |   3 |",
+                "| James |  29 |"
+        })
+        void add(final String name, final int age) {
+            names.add(name);
+        }
+    }
+
+    @Test
+    public void invokeDataMethodWithOverriddenProvideData() {
+        //given
+        final AdultsData data = new AdultsData();
+
+        //when
+        SpockitoAnnotations.initData(data);
+
+        //then
+        assertEquals(Arrays.asList("Frank", "James", "Added"), data.names, "data.names");
+    }
+
+    public static class ArrayRowsProvider implements DataProvider {
+        @Override
+        public Object provideData(final InjectionContext context) {
+            return new Object[] {
+                    new Object[] {"Frank", 27},
+                    new Object[] {"Nina"},
+                    new Object[0]
+            };
+        }
+    }
+
+    public static class StringArrayRowsProvider implements DataProvider {
+        @Override
+        public Object provideData(final InjectionContext context) {
+            return Arrays.asList(new String[] {"Frank", "James"}, new String[] {"Nina"});
+        }
+    }
+
+    public static class PlainRowsProvider implements DataProvider {
+        @Override
+        public Object provideData(final InjectionContext context) {
+            return Arrays.asList("Frank", "James");
+        }
+    }
+
+    static class ArrayParameterData {
+        final List<Object[]> arrays = new ArrayList<>();
+        final List<String> names = new ArrayList<>();
+        final List<String[]> stringArrays = new ArrayList<>();
+
+        @Data(ArrayRowsProvider.class)
+        void addArray(final Object[] array) {
+            arrays.add(array);
+        }
+
+        @Data(PlainRowsProvider.class)
+        void addName(final String name) {
+            names.add(name);
+        }
+
+        @Data(StringArrayRowsProvider.class)
+        void addStringArray(final String[] array) {
+            stringArrays.add(array);
+        }
+    }
+
+    @Test
+    public void invokeDataMethodWithSingleArrayParameter() {
+        //given
+        final ArrayParameterData data = new ArrayParameterData();
+
+        //when
+        SpockitoAnnotations.initData(data);
+
+        //then
+        assertEquals(3, data.arrays.size(), "data.arrays.size");
+        assertEquals(Arrays.asList("Frank", 27), Arrays.asList(data.arrays.get(0)), "data.arrays[0]");
+        assertEquals(Arrays.asList("Nina"), Arrays.asList(data.arrays.get(1)), "data.arrays[1]");
+        assertEquals(0, data.arrays.get(2).length, "data.arrays[2].length");
+        assertEquals(Arrays.asList("Frank", "James"), data.names, "data.names");
+        assertEquals(2, data.stringArrays.size(), "data.stringArrays.size");
+        assertEquals(Arrays.asList("Frank", "James"), Arrays.asList(data.stringArrays.get(0)), "data.stringArrays[0]");
+        assertEquals(Arrays.asList("Nina"), Arrays.asList(data.stringArrays.get(1)), "data.stringArrays[1]");
+    }
+
+    public static class NameStreamProvider implements DataProvider {
+        @Override
+        public Object provideData(final InjectionContext context) {
+            return Stream.of("Frank", "James").map(name -> new Object[] {name});
+        }
+    }
+
+    static class StreamingData {
+        final List<String> names = new ArrayList<>();
+        final List<List<Person>> batches = new ArrayList<>();
+
+        @Data(NameStreamProvider.class)
+        void addName(final String name) {
+            names.add(name);
+        }
+
+        @TableData({
+                "| Name  | Age |",
+                "| Frank |  27 |",
+                "| James |  29 |",
+                "| Nina  |   3 |"
+        })
+        @Batch(2)
+        void addBatch(final List<Person> persons) {
+            batches.add(persons);
+        }
+    }
+
+    @Test
+    public void invokeDataMethodsWithStreamsAndBatches() {
+        //given
+        final StreamingData data = new StreamingData();
+
+        //when
+        SpockitoAnnotations.initData(data);
+
+        //then
+        assertEquals(Arrays.asList("Frank", "James"), data.names, "data.names");
+        assertEquals(2, data.batches.size(), "data.batches.size");
+        assertEquals(2, data.batches.get(0).size(), "data.batches[0].size");
+        assertEquals("James", data.batches.get(0).get(1).name, "data.batches[0][1].name");
+        assertEquals(1, data.batches.get(1).size(), "data.batches[1].size");
+        assertEquals(3, data.batches.get(1).get(0).age, "data.batches[1][0].age");
+    }
+
+    @Test
+    public void provideMethodRowsAsArrayOrLazyStream() throws Exception {
+        //given
+        final InjectionContext context = InjectionContext.create(InjectionContext.Phase.INIT,
+                StreamingData.class.getDeclaredMethod("addBatch", List.class));
+        final TableDataProvider provider = new TableDataProvider();
+        final AtomicInteger filtered = new AtomicInteger();
+
+        //when
+        final Object data = provider.provideData(context);
+        final Iterator<Object[]> batches = provider.provideRowStream(context, provider.provideTable(context),
+                provider.provideValueConverter(context), row -> filtered.incrementAndGet() > 0).iterator();
+
+        //then
+        assertTrue(data instanceof Object[][], "data should be Object[][]");
+        assertEquals(2, ((Object[][])data).length, "data.length");
+        assertEquals(0, filtered.get(), "no row should be filtered before batches are consumed");
+        assertEquals(2, ((List<?>)batches.next()[0]).size(), "batch[0].size");
+        assertEquals(2, filtered.get(), "rows filtered for first batch");
+        assertEquals(1, ((List<?>)batches.next()[0]).size(), "batch[1].size");
+        assertEquals(3, filtered.get(), "rows filtered for all batches");
+        assertFalse(batches.hasNext(), "no more batches expected");
+    }
+
+    @Test
+    public void initNestedDataOncePerParameter() {
+        //given
+        final class NestedData {
+            final List<List<Person>> childLists = new ArrayList<>();
+            final List<Table> childTables = new ArrayList<>();
+            final List<List<Person>> sharedChildLists = new ArrayList<>();
+
+            @TableData({
+                    "| Last   |",
+                    "| Mayer  |",
+                    "| Finley |"
+            })
+            void addChildren(final String last,
+                             final @TableData({
+                                     "| Name  | Age |",
+                                     "| Nina  |   3 |",
+                                     "| Linda |  10 |"
+                             }) List<Person> children,
+                             final @TableData({
+                                     "| Name  | Age |",
+                                     "| Nina  |   3 |",
+                                     "| Linda |  10 |"
+                             }) Table childTable,
+                             final @TableData(value = {
+                                     "| Name  | Age |",
+                                     "| Nina  |   3 |",
+                                     "| Linda |  10 |"
+                             }, scope = DataScope.CLASS) List<Person> sharedChildren) {
+                childLists.add(children);
+                childTables.add(childTable);
+                sharedChildLists.add(sharedChildren);
+            }
+        }
+
+        final NestedData data = new NestedData();
+
+        //when
+        SpockitoAnnotations.initData(data);
+
+        //then
+        assertEquals(2, data.childLists.size(), "data.childLists.size");
+        assertEquals("Linda", data.childLists.get(1).get(1).name, "data.childLists[1][1].name");
+        assertNotSame(data.childLists.get(0), data.childLists.get(1), "mutable children should be copied");
+        assertSame(data.childLists.get(0).get(0), data.childLists.get(1).get(0), "children[0] should be shared");
+        assertSame(data.childTables.get(0), data.childTables.get(1), "immutable childTable should be shared");
+        data.childLists.get(0).clear();
+        assertEquals(2, data.childLists.get(1).size(), "data.childLists[1].size");
+        assertSame(data.sharedChildLists.get(0).get(0), data.sharedChildLists.get(1).get(0), "class scoped children[0] should be shared");
+        assertThrows(UnsupportedOperationException.class, () -> data.sharedChildLists.get(0).clear(), "class scoped children should be unmodifiable");
+    }
+
     @ParameterizedTest
     @MethodSource
     public void returnValue(final Car car) {
@@ -25,11 +25,15 @@ package org.tools4j.spockito.table;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Unit test for {@link Table}
@@ -105,4 +109,87 @@ public class TableTest {
         assertEquals(2, reversed.getRow(1).to(Row.class).index);
         assertEquals(1, reversed.getRow(2).to(Row.class).index);
     }
+
+    @Test
+    public void columns() {
+        //given
+        final Table table = Table.parse(new String[]{
+                "| index | count | amount | price |",
+                "|   0   | 12    | 1.5    | 1.00  |",
+                "|   1   | 34    | -2.25  | null  |",
+                "|   2   | 56    | 1e3    | 2.50  |"
+        });
+
+        //when + then
+        assertEquals(Arrays.asList("12", "34", "56"), table.column("count"), "raw column");
+        assertArrayEquals(new int[] {0, 1, 2}, table.intColumn("index"), "int column");
+        assertArrayEquals(new long[] {12, 34, 56}, table.longColumn("count"), "long column");
+        assertArrayEquals(new double[] {1.5, -2.25, 1000}, table.doubleColumn("amount"), "double column");
+        assertEquals(Arrays.asList(new BigDecimal("1.00"), null, new BigDecimal("2.50")),
+                table.column("price", BigDecimal.class), "BigDecimal column");
+        assertArrayEquals(new Integer[] {12, 34, 56}, SpockitoValueConverter.DEFAULT_INSTANCE.convertColumn(
+                int.class, int.class, new String[] {"12", "34", "56"}), "Integer array");
+        assertThrows(IllegalArgumentException.class, () -> table.intColumn("amount"), "non-int column");
+        assertThrows(IllegalArgumentException.class, () -> table.doubleColumn("price"), "column with null value");
+        assertThrows(IllegalArgumentException.class, () -> table.column("unknown"), "unknown column");
+    }
+
+    @Test
+    public void namedConstantColumns() {
+        //given
+        final Table table = Table.parse(new String[]{
+                "| index             | count          | price          |",
+                "| 0                 | Long.MAX_VALUE | BigDecimal.TEN |",
+                "| Integer.MAX_VALUE | 34             | 2.50           |"
+        });
+        final ValueConverter converter = new NamedConstantValueConverter();
+
+        //when + then
+        assertArrayEquals(new int[] {0, Integer.MAX_VALUE}, table.intColumn("index", converter), "int column");
+        assertArrayEquals(new long[] {Long.MAX_VALUE, 34}, table.longColumn("count", converter), "long column");
+        assertEquals(Arrays.asList(BigDecimal.TEN, new BigDecimal("2.50")),
+                table.column("price", BigDecimal.class, BigDecimal.class, converter), "BigDecimal column");
+        assertArrayEquals(new Integer[] {0, Integer.MAX_VALUE}, converter.convertColumn(
+                int.class, int.class, new String[] {"0", "Integer.MAX_VALUE"}), "Integer array");
+        assertThrows(IllegalArgumentException.class, () -> table.intColumn("index"), "named constant without converter");
+    }
+
+    @Test
+    public void shardRows() {
+        //given
+        final Table table = Table.parse(new String[]{
+                "| name    | age |",
+                "| Henry   | 42  |",
+                "| Jessy   | 17  |",
+                "| Olivia  | 36  |",
+                "| Alice   | 23  |",
+                "| Bob     | 54  |",
+                "| Charlie | 8   |",
+                "| Henry   | 42  |"
+        });
+        final int shardCount = 3;
+
+        for (final Sharding.By by : Sharding.By.values()) {
+            //when
+            final int[] shardsPerRow = new int[table.getRowCount()];
+            for (int index = 0; index < shardCount; index++) {
+                final Sharding sharding = new Sharding(index, shardCount, by);
+                for (final TableRow row : table) {
+                    if (sharding.test(row)) {
+                        shardsPerRow[row.getRowIndex()]++;
+                    }
+                }
+            }
+
+            //then
+            for (int row = 0; row < table.getRowCount(); row++) {
+                assertEquals(1, shardsPerRow[row], by + ": shards for row " + row);
+            }
+        }
+        assertEquals(new Sharding(0, shardCount, Sharding.By.CONTENT).shardOf(table.getRow(0)),
+                new Sharding(0, shardCount, Sharding.By.CONTENT).shardOf(table.getRow(6)), "shard of identical rows");
+        assertEquals(1, new Sharding(0, shardCount, Sharding.By.INDEX).shardOf(table.getRow(4)), "shard by index");
+        assertTrue(Sharding.NONE.test(table.getRow(3)), "no sharding includes all rows");
+        assertThrows(IllegalArgumentException.class, () -> new Sharding(3, shardCount, Sharding.By.INDEX), "invalid index");
+    }
 }
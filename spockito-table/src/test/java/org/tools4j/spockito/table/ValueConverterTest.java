@@ -25,6 +25,7 @@ package org.tools4j.spockito.table;
 
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
@@ -65,6 +66,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.NavigableSet;
@@ -94,6 +96,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -487,6 +490,22 @@ public class ValueConverterTest {
         }
     }
 
+    @Test
+    public void convertEnumIgnoringCaseInTurkishLocale() {
+        //given
+        final Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            //when + then
+            assertEquals(DayOfWeek.FRIDAY, converter.convert(DayOfWeek.class, null, "friday"), "friday");
+            assertEquals(DayOfWeek.FRIDAY, new Converters.EnumNamePrefixConverter<>(DayOfWeek.class, 3, false)
+                    .apply("fri"), "fri");
+            assertEquals(Thread.State.WAITING, converter.convert(Thread.State.class, null, "waiting"), "waiting");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void convertDayOfWeek() {
         final String crap = "xyzcrap";
@@ -726,9 +745,104 @@ public class ValueConverterTest {
     public void convertEnum() {
         for (final TestEnum testEnum : TestEnum.values()) {
             assertEquals(testEnum, converter.convert(TestEnum.class, null, testEnum.name()),"Unexpected value");
+            assertEquals(testEnum, converter.convert(TestEnum.class, null, testEnum.name().toLowerCase()),"Unexpected lower case value");
+        }
+        for (final String invalid : new String[] {"", "CONST", "CONST_", "CONST_D", "CONST_AA"}) {
+            try {
+                converter.convert(TestEnum.class, null, invalid);
+                fail("Expected conversion to fail for '" + invalid + "'");
+            } catch (final IllegalArgumentException e) {
+                //expected
+            }
+        }
+    }
+
+    @Test
+    public void convertNamedConstant() {
+        //given
+        final ValueConverter constantConverter = new NamedConstantValueConverter();
+
+        //when + then
+        assertEquals(BigDecimal.TEN, constantConverter.convert(BigDecimal.class, null, "BigDecimal.TEN"), "Unexpected BigDecimal");
+        assertEquals(Duration.ZERO, constantConverter.convert(Duration.class, null, "Duration.ZERO"), "Unexpected Duration");
+        assertEquals(Integer.MAX_VALUE, constantConverter.convert(int.class, null, "Integer.MAX_VALUE"), "Unexpected int");
+        assertEquals(Long.MIN_VALUE, constantConverter.convert(Long.class, null, "Long.MIN_VALUE"), "Unexpected Long");
+        assertEquals(TimeUnit.SECONDS, constantConverter.convert(TimeUnit.class, null, "TimeUnit.SECONDS"), "Unexpected TimeUnit");
+        assertEquals(BigDecimal.valueOf(12.5), constantConverter.convert(BigDecimal.class, null, "12.5"), "Unexpected decimal");
+        assertNull(constantConverter.convert(BigDecimal.class, null, "null"), "Expected null");
+        try {
+            converter.convert(BigDecimal.class, null, "BigDecimal.TEN");
+            fail("Expected default converter to fail for named constant");
+        } catch (final IllegalArgumentException e) {
+            //expected
+        }
+    }
+
+    @Test
+    public void convertColumnWithOverriddenConvert() {
+        //given
+        final ValueConverter overridingConverter = new SpockitoValueConverter() {
+            @Override
+            public <T> T convert(final Class<T> type, final Type genericType, final String value) {
+                return super.convert(type, genericType, "one".equals(value) ? "1" : value);
+            }
+        };
+        final List<String> values = Arrays.asList("one", "2");
+
+        //when + then
+        assertArrayEquals(new int[] {1, 2}, overridingConverter.convertIntColumn(values), "Unexpected int column");
+        assertArrayEquals(new long[] {1, 2}, overridingConverter.convertLongColumn(values), "Unexpected long column");
+        assertArrayEquals(new double[] {1, 2}, overridingConverter.convertDoubleColumn(values), "Unexpected double column");
+        assertEquals(Arrays.asList(1, 2), overridingConverter.convertColumn(Integer.class, null, values), "Unexpected Integer column");
+        assertThrows(IllegalArgumentException.class, () -> converter.convertIntColumn(values), "Expected default converter to fail");
+    }
+
+    private static class FieldBean {
+        String name;
+        int age;
+    }
+
+    private static class InheritedFieldBean extends FieldBean {
+        List<Integer> scores;
+    }
+
+    private static class SetterBean {
+        private String name;
+        private double amount;
+        private int setterCalls;
+        public void setName(final String name) {
+            this.name = name;
+            setterCalls++;
+        }
+        void setAmount(final double amount) {
+            this.amount = amount;
+            setterCalls++;
         }
     }
 
+    @Test
+    public void convertBean() {
+        //when
+        final FieldBean fieldBean = converter.convert(FieldBean.class, null, "{name:Alice,age:42}");
+        final InheritedFieldBean inheritedBean = converter.convert(InheritedFieldBean.class, null, "{name=Bob,age=7,scores=[1;2]}");
+        final SetterBean setterBean = converter.convert(SetterBean.class, null, "{name:Carol,amount:1.5}");
+        final SetterBean otherSetterBean = converter.convert(SetterBean.class, null, "{Name:Dave,Amount:-2}");
+
+        //then
+        assertEquals("Alice", fieldBean.name, "Unexpected field bean name");
+        assertEquals(42, fieldBean.age, "Unexpected field bean age");
+        assertEquals("Bob", inheritedBean.name, "Unexpected inherited bean name");
+        assertEquals(7, inheritedBean.age, "Unexpected inherited bean age");
+        assertEquals(Arrays.asList(1, 2), inheritedBean.scores, "Unexpected inherited bean scores");
+        assertEquals("Carol", setterBean.name, "Unexpected setter bean name");
+        assertEquals(1.5, setterBean.amount, "Unexpected setter bean amount");
+        assertEquals(2, setterBean.setterCalls, "Expected values to be set via setters");
+        assertEquals("Dave", otherSetterBean.name, "Unexpected other setter bean name");
+        assertEquals(-2.0, otherSetterBean.amount, "Unexpected other setter bean amount");
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(FieldBean.class, null, "{name:Eve}"), "Expected missing property to fail");
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(FieldBean.class, null, "{name:Eve,age:old}"), "Expected invalid property value to fail");
+    }
+
     @Test
     public void convertOptional() throws Exception {
         @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
@@ -1014,6 +1128,47 @@ public class ValueConverterTest {
         }
     }
 
+    @Test
+    public void convertUnmodifiableCollectionsAndMaps() throws Exception {
+        final class Holder {
+            List<Integer> list;
+            Set<String> set;
+            NavigableSet<Integer> navigableSet;
+            ArrayList<Integer> arrayList;
+            Map<String, Integer> map;
+            SortedMap<String, Integer> sortedMap;
+            HashMap<String, Integer> hashMap;
+        }
+        final ValueConverter unmodifiableConverter = new UnmodifiableValueConverter();
+
+        //when
+        final List<?> list = unmodifiableConverter.convert(List.class, Holder.class.getDeclaredField("list").getGenericType(), "[1,2,3]");
+        final List<?> singletonList = unmodifiableConverter.convert(List.class, Holder.class.getDeclaredField("list").getGenericType(), "[1]");
+        final Set<?> set = unmodifiableConverter.convert(Set.class, Holder.class.getDeclaredField("set").getGenericType(), "[b,a,c]");
+        final NavigableSet<?> navigableSet = unmodifiableConverter.convert(NavigableSet.class, Holder.class.getDeclaredField("navigableSet").getGenericType(), "[3,1,2]");
+        final ArrayList<?> arrayList = unmodifiableConverter.convert(ArrayList.class, Holder.class.getDeclaredField("arrayList").getGenericType(), "[1,2,3]");
+        final Map<?, ?> map = unmodifiableConverter.convert(Map.class, Holder.class.getDeclaredField("map").getGenericType(), "{b:2,a:1}");
+        final SortedMap<?, ?> sortedMap = unmodifiableConverter.convert(SortedMap.class, Holder.class.getDeclaredField("sortedMap").getGenericType(), "{b:2,a:1}");
+        final HashMap<?, ?> hashMap = unmodifiableConverter.convert(HashMap.class, Holder.class.getDeclaredField("hashMap").getGenericType(), "{b:2,a:1}");
+
+        //then
+        assertEquals(Arrays.asList(1, 2, 3), list, "Unexpected list");
+        assertEquals(Collections.singletonList(1), singletonList, "Unexpected singleton list");
+        assertEquals(Arrays.asList("b", "a", "c"), new ArrayList<>(set), "Unexpected set order");
+        assertEquals(Arrays.asList(1, 2, 3), new ArrayList<>(navigableSet), "Unexpected navigable set order");
+        assertEquals(Arrays.asList("b", "a"), new ArrayList<>(map.keySet()), "Unexpected map key order");
+        assertEquals(Arrays.asList("a", "b"), new ArrayList<>(sortedMap.keySet()), "Unexpected sorted map key order");
+        assertEquals(Collections.emptyList(), unmodifiableConverter.convert(List.class, Holder.class.getDeclaredField("list").getGenericType(), "[]"), "Unexpected empty list");
+        for (final Collection<?> collection : Arrays.<Collection<?>>asList(list, singletonList, set, navigableSet)) {
+            assertThrows(UnsupportedOperationException.class, () -> collection.add(null), "Expected unmodifiable " + collection);
+        }
+        assertThrows(UnsupportedOperationException.class, () -> map.clear(), "Expected unmodifiable map");
+        assertThrows(UnsupportedOperationException.class, () -> sortedMap.clear(), "Expected unmodifiable sorted map");
+        arrayList.clear();
+        hashMap.clear();
+        assertTrue(arrayList.isEmpty() && hashMap.isEmpty(), "Expected modifiable ArrayList and HashMap");
+    }
+
     private static <K,V> Map<K,V> map(final K key1, final V val1, final K key2, final V val2, final K key3, final V val3) {
         final Map<K, V> map = new HashMap<>();
         map.put(key1, val1);